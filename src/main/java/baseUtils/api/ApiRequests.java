@@ -1,19 +1,41 @@
 package baseUtils.api;
 
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.microsoft.playwright.APIRequestContext;
 import com.microsoft.playwright.APIResponse;
 import com.microsoft.playwright.options.RequestOptions;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public class ApiRequests {
 
+    private static final int DELETE_CHUNK = 1_000;
+    private static final int LIST_PAGE_SIZE = 1_000;
+
     private final APIRequestContext request;
     private final String apiBaseUrl;
     private final Map<String, String> defaultHeaders;
 
+    // Для потокового чтения: APIResponse из Playwright отдаёт тело только целиком
+    private HttpClient streamingClient;
+
     public ApiRequests(APIRequestContext request, String apiBaseUrl, Map<String, String> defaultHeaders) {
         this.request = request;
         this.apiBaseUrl = apiBaseUrl;
@@ -48,7 +70,7 @@ public class ApiRequests {
      * POST /api/CommunicationDictionary/addDictionaries
      * Важно: API принимает МАССИВ элементов.
      */
-    public void addDictionaries(List<Map<String, Object>> items) {
+    public void addDictionaries(List<?> items) {
         if (items == null || items.isEmpty()) return;
 
         RequestOptions options = RequestOptions.create()
@@ -69,6 +91,14 @@ public class ApiRequests {
         }
     }
 
+    /**
+     * POST /api/CommunicationDictionary/addDictionaries — типизированный вариант
+     * (Gson сериализует record так же, как Map; id == null не отправляется).
+     */
+    public void addDictionaryItems(List<DictionaryItem> items) {
+        addDictionaries(items);
+    }
+
     /**
      * Удобный хелпер: создать один элемент.
      */
@@ -83,6 +113,146 @@ public class ApiRequests {
         addDictionaries(List.of(item));
     }
 
+    /**
+     * GET списка словаря с потоковым разбором: consumer получает элементы по одному,
+     * тело ответа целиком в памяти не держится (100k строк — плоская память).
+     *
+     * path — путь относительно apiBaseUrl (эндпоинт списка зависит от стенда), query-параметры допускаются.
+     * Идёт мимо APIRequestContext (он отдаёт тело только целиком), поэтому сессию переносим сами:
+     * defaultHeaders + cookies контекста для этого хоста (см. sessionCookies).
+     */
+    public long streamDictionaries(String path, Consumer<DictionaryItem> consumer) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(apiBaseUrl + path))
+                .timeout(Duration.ofMinutes(5))
+                .header("Accept", "application/json")
+                .GET();
+
+        for (Map.Entry<String, String> e : defaultHeaders.entrySet()) {
+            if (e.getKey().equalsIgnoreCase("Content-Type")) continue;
+            builder.header(e.getKey(), e.getValue());
+        }
+        String cookies = sessionCookies(URI.create(apiBaseUrl + path));
+        if (!cookies.isEmpty()) builder.header("Cookie", cookies);
+
+        HttpResponse<InputStream> resp;
+        try {
+            resp = streamingClient().send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Stream dictionaries failed: " + path, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Stream dictionaries interrupted: " + path, e);
+        }
+
+        try (DictionaryItemReader reader = new DictionaryItemReader(resp.body())) {
+            if (resp.statusCode() != 200) {
+                throw new IllegalStateException("Stream dictionaries failed. Status=" + resp.statusCode() + ", Path=" + path);
+            }
+
+            long count = 0;
+            while (reader.hasNext()) {
+                consumer.accept(reader.next());
+                count++;
+            }
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Stream dictionaries failed: " + path, e);
+        }
+    }
+
+    /**
+     * Удалить элементы с этими entryId: id берутся потоковым чтением списка listPath (см. streamDictionaries).
+     * Список у UI может быть серверно-постраничным — тогда обходим страницы по LIST_PAGE_SIZE (см. ListPaging),
+     * пока не найдены все entryId или страница не принесла новых элементов.
+     * Удаляет пачками по DELETE_CHUNK. Возвращает, сколько entryId найдено и удалено (меньше entryIds.size() —
+     * часть в списке не нашлась, решает вызывающий).
+     */
+    public int deleteDictionariesByEntryIds(String listPath, Collection<Long> entryIds) {
+        if (entryIds == null || entryIds.isEmpty()) return 0;
+
+        Set<Long> wanted = new HashSet<>(entryIds);
+        Set<Long> found = new HashSet<>();
+        Set<Integer> seen = new HashSet<>();
+        List<Integer> ids = new ArrayList<>();
+
+        ListPaging paging = ListPaging.of(listPath, LIST_PAGE_SIZE);
+        long received = 0;
+        for (int page = 0; ; page++) {
+            int before = seen.size();
+            received += streamDictionaries(paging.page(page, received), item -> {
+                if (item.id() == null || !seen.add(item.id())) return;
+                if (wanted.contains(item.entryId())) {
+                    ids.add(item.id());
+                    found.add(item.entryId());
+                }
+            });
+            // не постраничный, всё нашли, или страница пустая / повторила уже виденное (сервер игнорирует параметр)
+            if (!paging.paged() || found.size() == wanted.size() || seen.size() == before) break;
+        }
+
+        // на десятках тысяч id одно тело запроса слишком большое — режем на пачки
+        for (int from = 0; from < ids.size(); from += DELETE_CHUNK) {
+            deleteDictionaries(ids.subList(from, Math.min(ids.size(), from + DELETE_CHUNK)));
+        }
+        return found.size();
+    }
+
+    /**
+     * Произвольный вызов API (method + путь относительно apiBaseUrl) с defaultHeaders.
+     * Используется replay'ем записанного трафика — статус не проверяет, решает вызывающий.
+     */
+    public APIResponse send(String method, String path, String jsonBody) {
+        RequestOptions options = RequestOptions.create().setMethod(method);
+
+        if (jsonBody != null && !jsonBody.isEmpty()) {
+            options.setData(jsonBody).setHeader("Content-Type", "application/json");
+        }
+
+        for (Map.Entry<String, String> e : defaultHeaders.entrySet()) {
+            options.setHeader(e.getKey(), e.getValue());
+        }
+
+        return request.fetch(apiBaseUrl + path, options);
+    }
+
+    /**
+     * Cookie-заголовок из storageState контекста: cookies, чей domain/path подходит к uri
+     * (для context.request() браузерного контекста — это cookies залогиненной сессии).
+     */
+    private String sessionCookies(URI uri) {
+        String host = uri.getHost();
+        String path = uri.getPath() == null || uri.getPath().isEmpty() ? "/" : uri.getPath();
+
+        List<String> pairs = new ArrayList<>();
+        JsonObject state = JsonParser.parseString(request.storageState()).getAsJsonObject();
+        if (!state.has("cookies")) return "";
+
+        for (JsonElement e : state.getAsJsonArray("cookies")) {
+            JsonObject cookie = e.getAsJsonObject();
+            String domain = cookie.get("domain").getAsString();
+            String cookiePath = cookie.has("path") ? cookie.get("path").getAsString() : "/";
+            boolean secure = cookie.has("secure") && cookie.get("secure").getAsBoolean();
+
+            String bare = domain.startsWith(".") ? domain.substring(1) : domain;
+            boolean domainMatches = host.equalsIgnoreCase(bare) || host.toLowerCase().endsWith("." + bare.toLowerCase());
+            if (!domainMatches || !path.startsWith(cookiePath)) continue;
+            if (secure && !"https".equalsIgnoreCase(uri.getScheme())) continue;
+
+            pairs.add(cookie.get("name").getAsString() + "=" + cookie.get("value").getAsString());
+        }
+        return String.join("; ", pairs);
+    }
+
+    private synchronized HttpClient streamingClient() {
+        if (streamingClient == null) {
+            streamingClient = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .build();
+        }
+        return streamingClient;
+    }
+
     private String safeBody(APIResponse resp) {
         try {
             return resp.text();
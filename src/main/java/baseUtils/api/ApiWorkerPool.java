@@ -0,0 +1,103 @@
+package baseUtils.api;
+
+import com.microsoft.playwright.APIRequest;
+import com.microsoft.playwright.Playwright;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Пул потоков для параллельных вызовов через ApiRequests.
+ * Объекты Playwright не потокобезопасны, поэтому у каждого воркера свой Playwright
+ * и свой APIRequestContext (создаются лениво, закрываются в close()).
+ * storageState — JSON из context.storageState() браузерного контекста: воркеры получают его cookies
+ * и ходят в API той же сессией, что и context.request().
+ */
+public class ApiWorkerPool implements AutoCloseable {
+
+    private final int workers;
+    private final String apiBaseUrl;
+    private final Map<String, String> defaultHeaders;
+    private final String storageState;
+    private final ExecutorService executor;
+
+    private final ThreadLocal<ApiRequests> workerApi = new ThreadLocal<>();
+    private final List<Playwright> playwrights = new ArrayList<>();
+
+    public ApiWorkerPool(int workers, String apiBaseUrl, Map<String, String> defaultHeaders) {
+        this(workers, apiBaseUrl, defaultHeaders, null);
+    }
+
+    public ApiWorkerPool(int workers, String apiBaseUrl, Map<String, String> defaultHeaders, String storageState) {
+        if (workers < 1) throw new IllegalArgumentException("workers must be >= 1, got " + workers);
+
+        this.workers = workers;
+        this.apiBaseUrl = apiBaseUrl;
+        this.defaultHeaders = defaultHeaders;
+        this.storageState = storageState;
+
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "api-worker-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** Сколько вызовов может идти одновременно. */
+    public int workers() {
+        return workers;
+    }
+
+    /**
+     * Выполнить вызов на одном из воркеров. Если все заняты — задача ждёт в очереди.
+     */
+    public <T> CompletableFuture<T> submit(Function<ApiRequests, T> call) {
+        return CompletableFuture.supplyAsync(() -> call.apply(api()), executor);
+    }
+
+    private ApiRequests api() {
+        ApiRequests api = workerApi.get();
+        if (api == null) {
+            Playwright playwright = Playwright.create();
+            synchronized (playwrights) {
+                playwrights.add(playwright);
+            }
+            APIRequest.NewContextOptions options = new APIRequest.NewContextOptions().setIgnoreHTTPSErrors(true);
+            if (storageState != null) options.setStorageState(storageState);
+            api = new ApiRequests(
+                    playwright.request().newContext(options),
+                    apiBaseUrl,
+                    defaultHeaders
+            );
+            workerApi.set(api);
+        }
+        return api;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (playwrights) {
+            for (Playwright playwright : playwrights) {
+                try {
+                    playwright.close();
+                } catch (Exception ignored) {}
+            }
+            playwrights.clear();
+        }
+    }
+}
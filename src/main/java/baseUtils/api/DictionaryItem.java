@@ -0,0 +1,15 @@
+package baseUtils.api;
+
+/**
+ * Элемент CommunicationDictionary (то, что принимает addDictionaries и отдаёт список).
+ * id == null для ещё не созданных элементов — Gson такие поля не сериализует.
+ */
+public record DictionaryItem(String keyId, long entryId, int langId, String value, int behavior, Integer id) {
+
+    /**
+     * Новый элемент без id (для addDictionaries).
+     */
+    public static DictionaryItem of(String keyId, long entryId, int langId, String value, int behavior) {
+        return new DictionaryItem(keyId, entryId, langId, value, behavior, null);
+    }
+}
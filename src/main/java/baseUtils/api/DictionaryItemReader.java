@@ -0,0 +1,154 @@
+package baseUtils.api;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Потоковый разбор списка словаря: элементы читаются по одному прямо из InputStream,
+ * весь ответ в память не поднимается (важно для списков на 100k+ строк).
+ *
+ * Поддерживает:
+ * - массив верхнего уровня: [ {...}, {...} ]
+ * - обёртку: { "data": [ ... ] }, { "result": { "items": [ ... ] } } — массив берётся только из поля
+ *   с именем из ITEM_FIELDS (остальные массивы вроде "errors": [] пропускаются), вложенные объекты обходятся.
+ */
+public class DictionaryItemReader implements Iterator<DictionaryItem>, Closeable {
+
+    // поля обёртки, в которых лежат элементы списка
+    private static final Set<String> ITEM_FIELDS = Set.of("data", "items", "result", "results", "content", "records", "list");
+
+    private final JsonReader reader;
+
+    // false — массив ещё не найден (ленивое позиционирование при первом hasNext)
+    private boolean positioned;
+    private boolean exhausted;
+
+    public DictionaryItemReader(InputStream in) {
+        this.reader = new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (exhausted) return false;
+        try {
+            if (!positioned) {
+                positioned = true;
+                if (!positionAtArray()) {
+                    exhausted = true;
+                    return false;
+                }
+            }
+            if (reader.hasNext()) return true;
+
+            exhausted = true;
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read dictionary items", e);
+        }
+    }
+
+    @Override
+    public DictionaryItem next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        try {
+            return readItem();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read dictionary item", e);
+        }
+    }
+
+    /**
+     * Stream поверх reader'а. Закрытие стрима закрывает и исходный InputStream.
+     */
+    public Stream<DictionaryItem> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // ===== Внутреннее =====
+
+    /** Встаём внутрь массива верхнего уровня или массива из поля ITEM_FIELDS внутри объектов-обёрток. */
+    private boolean positionAtArray() throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.BEGIN_ARRAY) {
+            reader.beginArray();
+            return true;
+        }
+        if (token != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return false;
+        }
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            JsonToken valueToken = reader.peek();
+            if (valueToken == JsonToken.BEGIN_ARRAY && ITEM_FIELDS.contains(name.toLowerCase())) {
+                reader.beginArray();
+                return true;
+            }
+            if (valueToken == JsonToken.BEGIN_OBJECT) {
+                if (positionAtArray()) return true;
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return false;
+    }
+
+    private DictionaryItem readItem() throws IOException {
+        String keyId = null;
+        long entryId = 0;
+        int langId = 0;
+        String value = null;
+        int behavior = 0;
+        Integer id = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "keyId" -> keyId = reader.nextString();
+                case "entryId" -> entryId = reader.nextLong();
+                case "langId" -> langId = reader.nextInt();
+                case "value" -> value = reader.nextString();
+                case "behavior" -> behavior = reader.nextInt();
+                case "id" -> id = reader.nextInt();
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new DictionaryItem(keyId, entryId, langId, value, behavior, id);
+    }
+}
@@ -0,0 +1,322 @@
+package baseUtils.api;
+
+import baseUtils.perf.PerfReports;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Массовый сид словаря: элементы читаются из итератора/файла по одному, режутся на пачки по chunkSize
+ * и уходят в addDictionaries через ApiWorkerPool, одновременно не больше pool.workers() запросов
+ * (источник дальше не читается, пока нет свободного слота — память плоская и на миллионе строк).
+ *
+ * checkpoint — файл с номерами уже залитых пачек и отпечатком источника (source). Прерванный сид
+ * с тем же источником и chunkSize при повторном запуске пропускает их и досиживает остальное;
+ * другой источник или chunkSize — отказ. После успешного сида файл удаляется. null — без checkpoint'а.
+ */
+public class DictionarySeeder {
+
+    /** Итог: отправлено / пропущено по checkpoint'у, сколько пачек отправлено, время. */
+    public record SeedResult(long items, long skipped, int chunks, long elapsedMs) {
+
+        public double itemsPerSecond() {
+            return elapsedMs > 0 ? items * 1000.0 / elapsedMs : 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d items in %d chunks, %d ms (%.0f items/s), %d skipped by checkpoint",
+                    items, chunks, elapsedMs, itemsPerSecond(), skipped);
+        }
+    }
+
+    private static final long PROGRESS_EVERY_MS = 10_000;
+
+    private final ApiWorkerPool pool;
+    private final int chunkSize;
+    private final Path checkpoint;
+
+    private Consumer<List<DictionaryItem>> onChunkSeeded = chunk -> {};
+
+    public DictionarySeeder(ApiWorkerPool pool, int chunkSize, Path checkpoint) {
+        if (chunkSize < 1) throw new IllegalArgumentException("chunkSize must be >= 1, got " + chunkSize);
+
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * Вызывается после каждой успешно залитой пачки — из потока воркера (для cleanup по entryId и т.п.).
+     * Исключение из listener'а останавливает сид, как ошибка запроса.
+     */
+    public DictionarySeeder onChunkSeeded(Consumer<List<DictionaryItem>> listener) {
+        this.onChunkSeeded = listener;
+        return this;
+    }
+
+    public SeedResult seed(Stream<DictionaryItem> items) {
+        return seed(items, null);
+    }
+
+    /**
+     * source — отпечаток источника для checkpoint'а (например, "generate:base=..,count=.."):
+     * resume только с тем же значением. null — источник не сверяется.
+     */
+    public SeedResult seed(Stream<DictionaryItem> items, String source) {
+        try (items) {
+            return seed(items.iterator(), source);
+        }
+    }
+
+    /**
+     * JSON-файл в формате списка словаря (массив или обёртка — см. DictionaryItemReader).
+     * Отпечаток — путь, размер и время изменения файла.
+     */
+    public SeedResult seedFile(Path file) {
+        try (InputStream in = Files.newInputStream(file);
+             DictionaryItemReader reader = new DictionaryItemReader(in)) {
+            String source = "file:" + file.toAbsolutePath().normalize()
+                    + ",size=" + Files.size(file) + ",mtime=" + Files.getLastModifiedTime(file).toMillis();
+            return seed(reader, source);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read seed file " + file, e);
+        }
+    }
+
+    public SeedResult seed(Iterator<DictionaryItem> items, String source) {
+        Checkpoint done = Checkpoint.load(checkpoint, chunkSize, source);
+        int maxInFlight = pool.workers();
+        Semaphore slots = new Semaphore(maxInFlight);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicLong posted = new AtomicLong();
+
+        long startNs = System.nanoTime();
+        long progressAt = startNs;
+        long skipped = 0;
+        int chunks = 0;
+
+        for (int index = 0; items.hasNext() && failure.get() == null; index++) {
+            List<DictionaryItem> chunk = new ArrayList<>(chunkSize);
+            while (chunk.size() < chunkSize && items.hasNext()) {
+                chunk.add(items.next());
+            }
+
+            if (done.contains(index)) {
+                skipped += chunk.size();
+                continue;
+            }
+
+            slots.acquireUninterruptibly();
+            if (failure.get() != null) {
+                slots.release();
+                break;
+            }
+
+            int chunkIndex = index;
+            chunks++;
+            pool.submit(api -> {
+                api.addDictionaryItems(chunk);
+                return null;
+            }).whenComplete((ignored, error) -> {
+                try {
+                    if (error != null) {
+                        failure.compareAndSet(null, error);
+                        return;
+                    }
+                    done.add(chunkIndex);
+                    posted.addAndGet(chunk.size());
+                    onChunkSeeded.accept(chunk);
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    slots.release();
+                }
+            });
+
+            if (System.nanoTime() - progressAt > PROGRESS_EVERY_MS * 1_000_000) {
+                progressAt = System.nanoTime();
+                long elapsedMs = (progressAt - startNs) / 1_000_000;
+                System.out.printf("Seeding: %d items posted, %.0f items/s%n", posted.get(), posted.get() * 1000.0 / elapsedMs);
+            }
+        }
+
+        // дождаться всех отправленных пачек
+        slots.acquireUninterruptibly(maxInFlight);
+        slots.release(maxInFlight);
+
+        SeedResult result = new SeedResult(posted.get(), skipped, chunks, (System.nanoTime() - startNs) / 1_000_000);
+        if (failure.get() != null) {
+            throw new IllegalStateException("Seeding failed after " + result
+                    + (checkpoint != null ? "; resume from checkpoint " + checkpoint : ""), failure.get());
+        }
+        done.delete();
+        return result;
+    }
+
+    // ===== Checkpoint =====
+
+    /**
+     * Залитые пачки: все индексы < contiguous плюс те, что завершились раньше предыдущих (пачки
+     * параллельные, завершаются не по порядку). Сохраняется после каждой пачки, запись через temp-файл.
+     */
+    static final class Checkpoint {
+
+        private final Path file;
+        private final int chunkSize;
+        private final String source;
+        private int contiguous;
+        private final TreeSet<Integer> ahead = new TreeSet<>();
+
+        private Checkpoint(Path file, int chunkSize, String source) {
+            this.file = file;
+            this.chunkSize = chunkSize;
+            this.source = source;
+        }
+
+        static Checkpoint load(Path file, int chunkSize, String source) {
+            Checkpoint cp = new Checkpoint(file, chunkSize, source);
+            if (file == null || !Files.exists(file)) return cp;
+
+            Properties props = new Properties();
+            try (Reader reader = Files.newBufferedReader(file)) {
+                props.load(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read checkpoint " + file, e);
+            }
+
+            int savedChunkSize = Integer.parseInt(props.getProperty("chunkSize", "0"));
+            if (savedChunkSize != chunkSize) {
+                throw new IllegalStateException("Checkpoint " + file + " was written with chunkSize=" + savedChunkSize
+                        + ", resume needs the same chunk size (got " + chunkSize + ")");
+            }
+
+            String savedSource = props.getProperty("source");
+            if (source != null && !source.equals(savedSource)) {
+                throw new IllegalStateException("Checkpoint " + file + " was written for source " + savedSource
+                        + ", resume needs the same source (got " + source + "); delete the checkpoint for a new seed");
+            }
+
+            cp.contiguous = Integer.parseInt(props.getProperty("chunksDone", "0"));
+            Arrays.stream(props.getProperty("ahead", "").split(","))
+                    .map(String::trim)
+                    .filter(s -> !s.isEmpty())
+                    .map(Integer::parseInt)
+                    .forEach(cp.ahead::add);
+            return cp;
+        }
+
+        synchronized boolean contains(int index) {
+            return index < contiguous || ahead.contains(index);
+        }
+
+        synchronized void add(int index) {
+            ahead.add(index);
+            while (ahead.remove(contiguous)) {
+                contiguous++;
+            }
+            save();
+        }
+
+        void delete() {
+            if (file == null) return;
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot delete checkpoint " + file, e);
+            }
+        }
+
+        private void save() {
+            if (file == null) return;
+
+            Properties props = new Properties();
+            props.setProperty("chunkSize", String.valueOf(chunkSize));
+            if (source != null) props.setProperty("source", source);
+            props.setProperty("chunksDone", String.valueOf(contiguous));
+            props.setProperty("ahead", ahead.stream().map(String::valueOf).collect(Collectors.joining(",")));
+
+            try {
+                Path dir = file.toAbsolutePath().getParent();
+                Files.createDirectories(dir);
+                Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+                try (Writer writer = Files.newBufferedWriter(tmp)) {
+                    props.store(writer, "DictionarySeeder checkpoint");
+                }
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write checkpoint " + file, e);
+            }
+        }
+    }
+
+    /**
+     * Запуск из командной строки:
+     * DictionarySeeder <items.json>   — элементы из файла;
+     * DictionarySeeder --generate N   — N элементов ProviderType/English с entryId от -Dseed.baseEntryId
+     *                                   (для resume base нужен тот же, что в прерванном запуске).
+     *
+     * -Dseed.chunk=500, -Dseed.inFlight=8 (воркеров = запросов одновременно), -Dseed.checkpoint=seed.checkpoint,
+     * -Dseed.token=...                (Bearer), цель — apiBaseUrl / API_BASE_URL.
+     */
+    public static void main(String[] args) {
+        if (args.length < 1 || (args[0].equals("--generate") && args.length < 2)) {
+            System.err.println("Usage: DictionarySeeder <items.json> | --generate <count>");
+            System.exit(2);
+        }
+
+        String target = System.getProperty("apiBaseUrl",
+                System.getenv().getOrDefault("API_BASE_URL", "https://adminopenapi-dev.itguru.am"));
+        int chunk = Integer.getInteger("seed.chunk", 500);
+        int inFlight = Integer.getInteger("seed.inFlight", 8);
+        Path checkpoint = Paths.get(System.getProperty("seed.checkpoint", "seed.checkpoint"));
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Content-Type", "application/json");
+        String token = System.getProperty("seed.token");
+        if (token != null && !token.isBlank()) headers.put("Authorization", "Bearer " + token);
+
+        try (ApiWorkerPool pool = new ApiWorkerPool(inFlight, target, headers)) {
+            DictionarySeeder seeder = new DictionarySeeder(pool, chunk, checkpoint);
+
+            SeedResult result;
+            if (args[0].equals("--generate")) {
+                long count = Long.parseLong(args[1]);
+                long base = Long.getLong("seed.baseEntryId", 100_000_000L);
+                result = seeder.seed(LongStream.range(0, count)
+                        .mapToObj(i -> DictionaryItem.of("ProviderType", base + i, 2, "seed #" + i, 1)),
+                        "generate:base=" + base + ",count=" + count);
+            } else {
+                result = seeder.seedFile(Paths.get(args[0]));
+            }
+
+            String text = "Dictionary seed -> " + target + System.lineSeparator()
+                    + "  chunk " + chunk + ", in flight " + inFlight + System.lineSeparator()
+                    + "  " + result + System.lineSeparator();
+            System.out.println(text);
+            PerfReports.write("dictionary-seed.txt", text);
+        }
+    }
+}
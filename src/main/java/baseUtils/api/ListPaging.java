@@ -0,0 +1,91 @@
+package baseUtils.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Постраничный обход списка, путь которого подсмотрен у UI: в query ищутся параметры страницы
+ * (pageNumber/pageIndex/page или skip/offset) и размера (pageSize/size/limit/take/perPage).
+ * Размер ставится pageSize, номер/сдвиг идёт от значения в исходном пути (0- или 1-based — как у UI).
+ * Сдвиг skip/offset растёт на число реально полученных элементов: сервер может урезать take/limit.
+ * Параметра страницы нет — список не постраничный, page(n) отдаёт исходный путь.
+ */
+final class ListPaging {
+
+    private static final List<String> PAGE_PARAMS = List.of("pageNumber", "pageIndex", "page");
+    private static final List<String> OFFSET_PARAMS = List.of("skip", "offset");
+    private static final List<String> SIZE_PARAMS = List.of("pageSize", "size", "limit", "take", "perPage");
+
+    private final String path;
+    private final List<String[]> params;
+    private final int pageParam;
+    private final boolean offset;
+    private final long start;
+
+    private ListPaging(String path, List<String[]> params, int pageParam, boolean offset, long start) {
+        this.path = path;
+        this.params = params;
+        this.pageParam = pageParam;
+        this.offset = offset;
+        this.start = start;
+    }
+
+    static ListPaging of(String pathAndQuery, int pageSize) {
+        int q = pathAndQuery.indexOf('?');
+        String path = q < 0 ? pathAndQuery : pathAndQuery.substring(0, q);
+        List<String[]> params = new ArrayList<>();
+        if (q >= 0) {
+            for (String pair : pathAndQuery.substring(q + 1).split("&")) {
+                if (pair.isEmpty()) continue;
+                int eq = pair.indexOf('=');
+                params.add(eq < 0 ? new String[]{pair, null} : new String[]{pair.substring(0, eq), pair.substring(eq + 1)});
+            }
+        }
+
+        int pageParam = -1;
+        boolean offset = false;
+        long start = 0;
+        for (int i = 0; i < params.size() && pageParam < 0; i++) {
+            String name = params.get(i)[0];
+            boolean page = PAGE_PARAMS.stream().anyMatch(name::equalsIgnoreCase);
+            boolean skip = OFFSET_PARAMS.stream().anyMatch(name::equalsIgnoreCase);
+            if (!page && !skip) continue;
+            try {
+                start = Long.parseLong(params.get(i)[1]);
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            pageParam = i;
+            offset = skip;
+        }
+
+        if (pageParam >= 0) {
+            for (String[] p : params) {
+                if (SIZE_PARAMS.stream().anyMatch(p[0]::equalsIgnoreCase)) p[1] = String.valueOf(pageSize);
+            }
+        }
+        return new ListPaging(path, params, pageParam, offset, start);
+    }
+
+    boolean paged() {
+        return pageParam >= 0;
+    }
+
+    /**
+     * Путь n-й страницы (0 — первая). received — сколько элементов пришло с предыдущих страниц,
+     * по нему считается сдвиг skip/offset.
+     */
+    String page(int n, long received) {
+        if (!paged() && n > 0) throw new IllegalStateException("List " + path + " is not paged");
+
+        StringBuilder sb = new StringBuilder(path);
+        for (int i = 0; i < params.size(); i++) {
+            String value = i == pageParam
+                    ? String.valueOf(offset ? start + received : start + n)
+                    : params.get(i)[1];
+            sb.append(i == 0 ? '?' : '&').append(params.get(i)[0]);
+            if (value != null) sb.append('=').append(value);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,166 @@
+package baseUtils.browser;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.WaitForSelectorState;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ожидание "приложение простаивает": Angular Testability (whenStable — зона без pending
+ * макротасок и change detection) + свой счётчик XHR/fetch в полёте.
+ *
+ * Счётчик ставится init script'ом, поэтому install надо вызвать до навигации (page-object'ы делают это
+ * в конструкторе). Запросы, начатые до установки, всё равно ловит whenStable — HttpClient живёт в зоне.
+ *
+ * setInterval/polling в зоне держит Angular "нестабильным" вечно: если сеть уже тихая, а зона
+ * не стабилизировалась за ZONE_GRACE_MS, ожидание заканчивается сразу (stable=false, pending=0),
+ * а не через весь таймаут. Такой результат возвращается как есть; waitIdle(page, ready) тогда ждёт элемент.
+ */
+public final class AngularStability {
+
+    /** stable=false — не дождались за таймаут (pending — сколько запросов ещё в полёте). */
+    public record Idle(boolean stable, long elapsedMs, int pending, boolean angular) {
+
+        @Override
+        public String toString() {
+            return String.format("%s in %d ms (pending=%d, angular=%s)", stable ? "idle" : "NOT idle", elapsedMs, pending, angular);
+        }
+    }
+
+    public static final long DEFAULT_QUIET_MS = 50;
+    public static final long DEFAULT_TIMEOUT_MS = 10_000;
+    public static final long ZONE_GRACE_MS = 1_000;
+
+    private static final String SCRIPT = """
+            (() => {
+              if (window.__arcaPending) return;
+              const state = window.__arcaPending = { count: 0, lastChange: 0 };
+              const start = () => { state.count++; state.lastChange = performance.now(); };
+              const end = () => { state.count = Math.max(0, state.count - 1); state.lastChange = performance.now(); };
+
+              const send = XMLHttpRequest.prototype.send;
+              XMLHttpRequest.prototype.send = function (...args) {
+                let settled = false;
+                const settle = () => { if (!settled) { settled = true; end(); } };
+                start();
+                this.addEventListener('loadend', settle);
+                try { return send.apply(this, args); } catch (e) { settle(); throw e; }
+              };
+
+              if (typeof window.fetch === 'function') {
+                const fetch = window.fetch;
+                window.fetch = function (...args) {
+                  start();
+                  return fetch.apply(this, args).finally(end);
+                };
+              }
+            })();
+            """;
+
+    private static final String AWAIT_SCRIPT = """
+            ([quietMs, timeoutMs, zoneGraceMs]) => new Promise((resolve) => {
+              const started = performance.now();
+              const state = window.__arcaPending || { count: 0, lastChange: 0 };
+              const testabilities = () => {
+                try {
+                  return typeof window.getAllAngularTestabilities === 'function' ? window.getAllAngularTestabilities() : [];
+                } catch (e) { return []; }
+              };
+              const zoneStable = () => testabilities().every((t) => { try { return t.isStable(); } catch (e) { return true; } });
+              const whenStable = () => new Promise((done) => {
+                const list = testabilities();
+                let left = list.length;
+                if (!left) { done(); return; }
+                for (const t of list) {
+                  try { t.whenStable(() => { if (--left === 0) done(); }); } catch (e) { if (--left === 0) done(); }
+                }
+              });
+              const finish = (stable) => resolve({
+                stable, elapsedMs: performance.now() - started, pending: state.count, angular: testabilities().length > 0
+              });
+
+              const check = () => {
+                const now = performance.now();
+                const left = timeoutMs - (now - started);
+                if (left <= 0) { finish(false); return; }
+                if (state.count > 0 || now - state.lastChange < quietMs) { setTimeout(check, 10); return; }
+
+                const raceStart = now;
+                Promise.race([whenStable(), new Promise((r) => setTimeout(r, Math.min(left, zoneGraceMs)))]).then(() => {
+                  // после стабилизации зоны мог уйти следующий запрос цепочки — перепроверяем всё разом
+                  const t = performance.now();
+                  const networkQuiet = state.count === 0 && t - state.lastChange >= quietMs;
+                  if (networkQuiet && zoneStable()) finish(true);
+                  else if (t - started >= timeoutMs) finish(false);
+                  // сеть тихая, а зона так и не стабилизировалась — таймер в зоне, ждать дальше незачем
+                  else if (networkQuiet && t - raceStart >= zoneGraceMs) finish(false);
+                  else setTimeout(check, 10);
+                });
+              };
+              check();
+            })
+            """;
+
+    private AngularStability() {}
+
+    public static void install(Page page) {
+        BrowserScripts.installOnPage(page, "angular-stability", SCRIPT);
+    }
+
+    public static Idle waitIdle(Page page) {
+        return waitIdle(page, DEFAULT_TIMEOUT_MS);
+    }
+
+    /**
+     * Простой приложения, а если его не дождались — элемента ready (видимым, с обычным таймаутом Playwright).
+     * Для ожиданий, за которыми нет своей проверки с ожиданием.
+     */
+    public static Idle waitIdle(Page page, Locator ready) {
+        Idle idle = waitIdle(page);
+        if (!idle.stable()) {
+            ready.waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE));
+        }
+        return idle;
+    }
+
+    /**
+     * Дождаться простоя приложения. Не падает по таймауту (setInterval в зоне может держать Angular
+     * "нестабильным" вечно) — возвращает Idle, дальше решает вызывающий (см. waitIdle(page, ready)).
+     */
+    public static Idle waitIdle(Page page, long timeoutMs) {
+        install(page);
+        long startedNs = System.nanoTime();
+
+        Idle idle = awaitOnce(page, timeoutMs);
+        if (idle == null) {
+            // документ сменился во время ожидания — ждём загрузку нового и повторяем
+            page.waitForLoadState();
+            long left = Math.max(0, timeoutMs - (System.nanoTime() - startedNs) / 1_000_000);
+            idle = awaitOnce(page, left);
+        }
+        long elapsedMs = (System.nanoTime() - startedNs) / 1_000_000;
+        Idle result = idle != null
+                ? new Idle(idle.stable(), elapsedMs, idle.pending(), idle.angular())
+                : new Idle(false, elapsedMs, -1, false);
+        return result;
+    }
+
+    private static Idle awaitOnce(Page page, long timeoutMs) {
+        Object raw;
+        try {
+            raw = page.evaluate(AWAIT_SCRIPT, List.of(DEFAULT_QUIET_MS, timeoutMs, ZONE_GRACE_MS));
+        } catch (RuntimeException e) {
+            return null;
+        }
+        if (!(raw instanceof Map<?, ?> r)) return null;
+
+        return new Idle(
+                Boolean.TRUE.equals(r.get("stable")),
+                Math.round(((Number) r.get("elapsedMs")).doubleValue()),
+                ((Number) r.get("pending")).intValue(),
+                Boolean.TRUE.equals(r.get("angular"))
+        );
+    }
+}
@@ -0,0 +1,56 @@
+package baseUtils.browser;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Установка браузерных скриптов (проб, логов) один раз на страницу/контекст.
+ *
+ * addInitScript покрывает будущие загрузки документа, evaluate — уже открытый документ
+ * (page-object'ы обычно создаются после page.navigate). Сам скрипт тоже должен быть идемпотентным.
+ */
+public final class BrowserScripts {
+
+    private static final Map<Object, Set<String>> INSTALLED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private BrowserScripts() {}
+
+    public static void installOnPage(Page page, String id, String script) {
+        if (!markInstalled(page, id)) return;
+
+        page.addInitScript(script);
+        evaluateSafely(page, script);
+    }
+
+    public static void installOnContext(BrowserContext context, String id, String script) {
+        if (!markInstalled(context, id)) return;
+
+        context.addInitScript(script);
+        for (Page page : context.pages()) {
+            evaluateSafely(page, script);
+        }
+    }
+
+    /**
+     * true — id на этом объекте ещё не ставили (и теперь помечен). Для разовых exposeBinding и т.п.
+     */
+    public static boolean markInstalled(Object target, String id) {
+        synchronized (INSTALLED) {
+            return INSTALLED.computeIfAbsent(target, k -> new HashSet<>()).add(id);
+        }
+    }
+
+    private static void evaluateSafely(Page page, String script) {
+        try {
+            page.evaluate(script);
+        } catch (RuntimeException ignored) {
+            // документ в процессе навигации — init script всё равно сработает на новой загрузке
+        }
+    }
+}
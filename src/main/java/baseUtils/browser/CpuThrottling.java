@@ -0,0 +1,41 @@
+package baseUtils.browser;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Page;
+
+/**
+ * Замедление CPU через CDP Emulation.setCPUThrottlingRate (только Chromium).
+ * rate=4 — страница работает примерно в 4 раза медленнее (типичный операторский ноутбук против CI).
+ */
+public final class CpuThrottling {
+
+    private CpuThrottling() {}
+
+    /**
+     * Rate из -DcpuThrottlingRate (по умолчанию 1 — без замедления).
+     */
+    public static double rateFromSystemProperty() {
+        return Double.parseDouble(System.getProperty("cpuThrottlingRate", "1"));
+    }
+
+    /** rate <= 1 — ничего не делаем. */
+    public static void apply(BrowserContext context, double rate) {
+        if (rate <= 1) return;
+
+        for (Page page : context.pages()) {
+            apply(context, page, rate);
+        }
+        context.onPage(page -> apply(context, page, rate));
+    }
+
+    private static void apply(BrowserContext context, Page page, double rate) {
+        // CDP-сессию не отсоединяем: при detach эмуляция сбрасывается
+        CDPSession cdp = context.newCDPSession(page);
+
+        JsonObject params = new JsonObject();
+        params.addProperty("rate", rate);
+        cdp.send("Emulation.setCPUThrottlingRate", params);
+    }
+}
@@ -0,0 +1,210 @@
+package baseUtils.browser;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.TimeoutError;
+import com.microsoft.playwright.options.WaitForSelectorState;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Состояние нескольких элементов одним evaluate вместо пачки isVisible/isEnabled/count/innerText
+ * (каждый из них — отдельный round trip к драйверу).
+ *
+ * Query — обычный CSS (querySelectorAll): playwright-псевдоклассы (:has-text, :visible, :text-is)
+ * в браузере не работают, текст задаётся отдельно в Query.hasText. Состояние берётся по первому совпадению.
+ * Если page-object уже держит Locator на тот же элемент — read/awaitEnabled по Locator, чтобы не держать
+ * второй, расходящийся с ним селектор.
+ */
+public final class DomState {
+
+    /**
+     * css — CSS-селектор; hasText — подстрока текста элемента (без учёта регистра и лишних пробелов,
+     * как :has-text), null — без фильтра.
+     */
+    public record Query(String css, String hasText) {
+
+        public static Query css(String css) {
+            return new Query(css, null);
+        }
+
+        public static Query css(String css, String hasText) {
+            return new Query(css, hasText);
+        }
+    }
+
+    /** count — сколько элементов подошло; остальное — по первому. text — innerText, value — у input/textarea/select. */
+    public record ElementState(int count, boolean visible, boolean enabled, String text, String value) {
+
+        static final ElementState MISSING = new ElementState(0, false, false, null, null);
+
+        public boolean exists() {
+            return count > 0;
+        }
+
+        public boolean visibleAndEnabled() {
+            return visible && enabled;
+        }
+    }
+
+    // состояние найденных элементов: [el...] -> {count, visible, enabled, text, value} (по первому)
+    private static final String ELEMENTS_STATE_FN = """
+            (found) => {
+              const el = found[0];
+              if (!el) return { count: 0, visible: false, enabled: false, text: null, value: null };
+              const rect = el.getBoundingClientRect();
+              const visible = rect.width > 0 && rect.height > 0 && getComputedStyle(el).visibility !== 'hidden';
+              const disabled = el.matches(':disabled') || el.getAttribute('aria-disabled') === 'true'
+                || !!el.closest('fieldset:disabled');
+              return {
+                count: found.length,
+                visible,
+                enabled: !disabled,
+                text: (el.innerText ?? el.textContent ?? '').trim(),
+                value: 'value' in el && typeof el.value === 'string' ? el.value : null
+              };
+            }
+            """;
+
+    // состояние одного запроса: [css, hasText] -> {count, visible, enabled, text, value}
+    private static final String STATE_FN = """
+            ([css, hasText]) => {
+              const norm = (s) => (s || '').replace(/\\s+/g, ' ').trim().toLowerCase();
+              let found = [];
+              try { found = Array.from(document.querySelectorAll(css)); } catch (e) { found = []; }
+              if (hasText != null) {
+                const needle = norm(hasText);
+                found = found.filter((el) => norm(el.textContent).includes(needle));
+              }
+              return (__ELEMENTS__)(found);
+            }
+            """.replace("__ELEMENTS__", ELEMENTS_STATE_FN);
+
+    private static final String READ_SCRIPT = """
+            (queries) => queries.map(__STATE__)
+            """.replace("__STATE__", STATE_FN);
+
+    // ждём в браузере, пока элемент не станет visible && enabled (без round trip'а на каждую проверку)
+    private static final String AWAIT_ENABLED_SCRIPT = """
+            ([query, timeoutMs]) => new Promise((resolve) => {
+              const state = __STATE__;
+              const deadline = performance.now() + timeoutMs;
+              const tick = () => {
+                const s = state(query);
+                if ((s.visible && s.enabled) || performance.now() > deadline) { resolve(s); return; }
+                setTimeout(tick, 16);
+              };
+              tick();
+            })
+            """.replace("__STATE__", STATE_FN);
+
+    // ждём в браузере, пока число совпадений не станет expected
+    private static final String AWAIT_COUNT_SCRIPT = """
+            ([query, expected, timeoutMs]) => new Promise((resolve) => {
+              const state = __STATE__;
+              const deadline = performance.now() + timeoutMs;
+              const tick = () => {
+                const s = state(query);
+                if (s.count === expected || performance.now() > deadline) { resolve(s); return; }
+                setTimeout(tick, 16);
+              };
+              tick();
+            })
+            """.replace("__STATE__", STATE_FN);
+
+    // то же ожидание для элемента, уже найденного локатором
+    private static final String AWAIT_ELEMENT_ENABLED_SCRIPT = """
+            (el, timeoutMs) => new Promise((resolve) => {
+              const state = __ELEMENTS__;
+              const deadline = performance.now() + timeoutMs;
+              const tick = () => {
+                const s = state([el]);
+                if ((s.visible && s.enabled) || performance.now() > deadline) { resolve(s); return; }
+                setTimeout(tick, 16);
+              };
+              tick();
+            })
+            """.replace("__ELEMENTS__", ELEMENTS_STATE_FN);
+
+    private DomState() {}
+
+    /**
+     * Состояния всех запросов одним evaluate. Ключи — имена из queries (порядок сохраняется).
+     */
+    public static Map<String, ElementState> read(Page page, Map<String, Query> queries) {
+        List<String> names = new ArrayList<>(queries.keySet());
+        List<List<String>> args = new ArrayList<>();
+        for (String name : names) {
+            Query q = queries.get(name);
+            args.add(Arrays.asList(q.css(), q.hasText()));
+        }
+
+        List<?> raw = (List<?>) page.evaluate(READ_SCRIPT, args);
+        Map<String, ElementState> states = new LinkedHashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            states.put(names.get(i), toState(raw.get(i)));
+        }
+        return states;
+    }
+
+    public static ElementState read(Page page, Query query) {
+        return read(page, Map.of("q", query)).get("q");
+    }
+
+    /**
+     * Дождаться visible && enabled одним evaluate. Возвращает последнее состояние (по таймауту — как есть,
+     * решение за вызывающим).
+     */
+    public static ElementState awaitEnabled(Page page, Query query, long timeoutMs) {
+        return toState(page.evaluate(AWAIT_ENABLED_SCRIPT,
+                List.of(Arrays.asList(query.css(), query.hasText()), timeoutMs)));
+    }
+
+    /**
+     * Дождаться, что совпадений ровно expected, одним evaluate. Возвращает последнее состояние.
+     */
+    public static ElementState awaitCount(Page page, Query query, int expected, long timeoutMs) {
+        return toState(page.evaluate(AWAIT_COUNT_SCRIPT,
+                List.of(Arrays.asList(query.css(), query.hasText()), expected, timeoutMs)));
+    }
+
+    // ===== По локатору =====
+    // Тот же Locator, что кликает page-object, — селектор один (и playwright-псевдоклассы работают).
+
+    /** Состояние элементов локатора одним evaluateAll: count — сколько совпало, остальное — по первому. */
+    public static ElementState read(Locator locator) {
+        return toState(locator.evaluateAll(ELEMENTS_STATE_FN));
+    }
+
+    /**
+     * Дождаться visible && enabled: появления элемента ждёт Playwright, дальше — в браузере одним evaluate.
+     * Элемент не появился за timeoutMs — MISSING; иначе последнее состояние.
+     */
+    public static ElementState awaitEnabled(Locator locator, long timeoutMs) {
+        long startNs = System.nanoTime();
+        try {
+            Locator first = locator.first();
+            first.waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.ATTACHED).setTimeout(timeoutMs));
+            long left = Math.max(0, timeoutMs - (System.nanoTime() - startNs) / 1_000_000);
+            return toState(first.evaluate(AWAIT_ELEMENT_ENABLED_SCRIPT, left));
+        } catch (TimeoutError e) {
+            return ElementState.MISSING;
+        }
+    }
+
+    private static ElementState toState(Object raw) {
+        if (!(raw instanceof Map<?, ?> m)) return ElementState.MISSING;
+
+        return new ElementState(
+                ((Number) m.get("count")).intValue(),
+                Boolean.TRUE.equals(m.get("visible")),
+                Boolean.TRUE.equals(m.get("enabled")),
+                (String) m.get("text"),
+                (String) m.get("value")
+        );
+    }
+}
@@ -0,0 +1,67 @@
+package baseUtils.browser;
+
+import java.util.Locale;
+
+/**
+ * Профиль сетевых условий для Network.emulateNetworkConditions.
+ * latencyMs — добавочная задержка на запрос, downloadKbps/uploadKbps — пропускная способность (кбит/с).
+ *
+ * Имена: LAN (без ограничений), 3G, SLOW_3G, DSL или custom:&lt;latencyMs&gt;:&lt;downKbps&gt;:&lt;upKbps&gt;.
+ * Значения 3G/SLOW_3G — как в пресетах Chrome DevTools, DSL — как в WebPageTest.
+ */
+public record NetworkProfile(String name, double latencyMs, double downloadKbps, double uploadKbps) {
+
+    public static final NetworkProfile LAN = new NetworkProfile("LAN", 0, 0, 0);
+    public static final NetworkProfile FAST_3G = new NetworkProfile("3G", 562.5, 1_440, 675);
+    public static final NetworkProfile SLOW_3G = new NetworkProfile("SLOW_3G", 2_000, 400, 400);
+    public static final NetworkProfile DSL = new NetworkProfile("DSL", 50, 1_500, 384);
+
+    /**
+     * Профиль из -DnetworkProfile (или NETWORK_PROFILE). Не задан — LAN.
+     */
+    public static NetworkProfile fromSystemProperty() {
+        return parse(System.getProperty("networkProfile",
+                System.getenv().getOrDefault("NETWORK_PROFILE", "LAN")));
+    }
+
+    public static NetworkProfile parse(String spec) {
+        String s = spec.trim();
+
+        if (s.toLowerCase(Locale.ROOT).startsWith("custom:")) {
+            String[] parts = s.substring("custom:".length()).split(":");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Custom network profile must be custom:<latencyMs>:<downKbps>:<upKbps>, got: " + spec);
+            }
+            return new NetworkProfile(s,
+                    Double.parseDouble(parts[0]),
+                    Double.parseDouble(parts[1]),
+                    Double.parseDouble(parts[2]));
+        }
+
+        return switch (s.toUpperCase(Locale.ROOT)) {
+            case "LAN", "NONE", "" -> LAN;
+            case "3G", "FAST_3G" -> FAST_3G;
+            case "SLOW_3G" -> SLOW_3G;
+            case "DSL" -> DSL;
+            default -> throw new IllegalArgumentException("Unknown network profile: " + spec);
+        };
+    }
+
+    public boolean isThrottled() {
+        return latencyMs > 0 || downloadKbps > 0 || uploadKbps > 0;
+    }
+
+    // CDP ждёт байты/сек (кбит = 1000 бит, как в DevTools), -1 = без ограничения
+    double downloadBytesPerSecond() {
+        return downloadKbps > 0 ? downloadKbps * 1000 / 8 : -1;
+    }
+
+    double uploadBytesPerSecond() {
+        return uploadKbps > 0 ? uploadKbps * 1000 / 8 : -1;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
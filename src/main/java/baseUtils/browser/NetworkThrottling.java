@@ -0,0 +1,38 @@
+package baseUtils.browser;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Page;
+
+/**
+ * Применение NetworkProfile к контексту через CDP (только Chromium).
+ * Действует на уже открытые страницы и на все, что откроются в контексте позже.
+ */
+public final class NetworkThrottling {
+
+    private NetworkThrottling() {}
+
+    /** LAN — ничего не делаем. */
+    public static void apply(BrowserContext context, NetworkProfile profile) {
+        if (!profile.isThrottled()) return;
+
+        for (Page page : context.pages()) {
+            apply(context, page, profile);
+        }
+        context.onPage(page -> apply(context, page, profile));
+    }
+
+    private static void apply(BrowserContext context, Page page, NetworkProfile profile) {
+        // CDP-сессию не отсоединяем: при detach эмуляция сбрасывается
+        CDPSession cdp = context.newCDPSession(page);
+        cdp.send("Network.enable");
+
+        JsonObject params = new JsonObject();
+        params.addProperty("offline", false);
+        params.addProperty("latency", profile.latencyMs());
+        params.addProperty("downloadThroughput", profile.downloadBytesPerSecond());
+        params.addProperty("uploadThroughput", profile.uploadBytesPerSecond());
+        cdp.send("Network.emulateNetworkConditions", params);
+    }
+}
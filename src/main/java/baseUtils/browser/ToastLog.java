@@ -0,0 +1,109 @@
+package baseUtils.browser;
+
+import com.microsoft.playwright.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Журнал тостов в странице: MutationObserver записывает каждое сообщение snackbar'а / aria-live
+ * с временем появления (Date.now() браузера). Быстро исчезнувший тост не теряется,
+ * а ожидание заканчивается ровно в момент появления — без опроса локаторов.
+ *
+ * Порядок: mark() до клика, await(..., since) после — "тост появился через N мс после клика".
+ */
+public final class ToastLog {
+
+    /** Сообщение тоста; epochMs — по часам браузера. */
+    public record Toast(String text, long epochMs) {}
+
+    private static final String SCRIPT = """
+            (() => {
+              if (window.__arcaToastLog) return;
+              const log = window.__arcaToastLog = { entries: [], waiters: [] };
+              const SELECTOR = "mat-snack-bar-container, simple-snack-bar, [role='status'], [aria-live]";
+              const seen = new WeakMap();
+
+              const scan = () => {
+                for (const el of document.querySelectorAll(SELECTOR)) {
+                  // вложенные live-регионы одного тоста — считаем по самому внешнему
+                  if (el.parentElement && el.parentElement.closest(SELECTOR)) continue;
+                  const text = (el.textContent || '').replace(/\\s+/g, ' ').trim();
+                  if (!text || seen.get(el) === text) continue;
+                  seen.set(el, text);
+
+                  const entry = { text, epochMs: Date.now() };
+                  log.entries.push(entry);
+                  if (log.entries.length > 500) log.entries.shift();
+                  log.waiters = log.waiters.filter((w) => !w(entry));
+                }
+              };
+
+              const start = () => new MutationObserver(scan)
+                .observe(document.documentElement, { childList: true, subtree: true, characterData: true });
+              if (document.documentElement) start(); else document.addEventListener('DOMContentLoaded', start);
+            })();
+            """;
+
+    private static final String AWAIT_SCRIPT = """
+            ([text, since, timeoutMs]) => new Promise((resolve) => {
+              const log = window.__arcaToastLog;
+              if (!log) { resolve(null); return; }
+              const matches = (e) => e.epochMs >= since && e.text.includes(text);
+
+              const found = log.entries.find(matches);
+              if (found) { resolve(found); return; }
+
+              let done = false;
+              log.waiters.push((e) => {
+                if (done || !matches(e)) return done;
+                done = true;
+                resolve(e);
+                return true;
+              });
+              setTimeout(() => { if (!done) { done = true; resolve(null); } }, timeoutMs);
+            })
+            """;
+
+    private ToastLog() {}
+
+    public static void install(Page page) {
+        BrowserScripts.installOnPage(page, "toast-log", SCRIPT);
+    }
+
+    /**
+     * Отметка времени перед действием (часы браузера — те же, что у записей журнала).
+     */
+    public static long mark(Page page) {
+        install(page);
+        return ((Number) page.evaluate("() => Date.now()")).longValue();
+    }
+
+    /**
+     * Тост, содержащий text, появившийся не раньше since. null — за timeoutMs не появился.
+     * Если уже в журнале — возвращается сразу.
+     */
+    public static Toast await(Page page, String text, long since, long timeoutMs) {
+        install(page);
+        Object raw = page.evaluate(AWAIT_SCRIPT, List.of(text, since, timeoutMs));
+        return raw instanceof Map<?, ?> m ? toToast(m) : null;
+    }
+
+    /** Все тосты страницы с since (для сообщений об ошибке). */
+    public static List<Toast> entries(Page page, long since) {
+        install(page);
+        List<Toast> toasts = new ArrayList<>();
+        Object raw = page.evaluate("(since) => (window.__arcaToastLog ? window.__arcaToastLog.entries : []).filter((e) => e.epochMs >= since)", since);
+        if (raw instanceof List<?> list) {
+            for (Object o : list) {
+                if (o instanceof Map<?, ?> m) toasts.add(toToast(m));
+            }
+        }
+        return toasts;
+    }
+
+    private static Toast toToast(Map<?, ?> m) {
+        return new Toast(String.valueOf(m.get("text")), ((Number) m.get("epochMs")).longValue());
+    }
+}
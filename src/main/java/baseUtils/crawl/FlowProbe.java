@@ -0,0 +1,192 @@
+package baseUtils.crawl;
+
+import baseUtils.perf.PerfTimeline;
+import com.microsoft.playwright.Page;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Проба "открылся ли flow" без опроса из Java: в браузере MutationObserver + history/popstate
+ * ловят смену URL, заголовок страницы (app-page-title) и заголовок диалога (mat-dialog-container);
+ * побеждает первый сигнал, совпавший с ожидаемыми заголовками. Один round trip на ожидание.
+ *
+ * Порядок: arm() до клика, await() после. requireHeader=true — смена URL сама по себе не считается
+ * (краулерам нужен именно заголовок), false — как старая проверка: URL или заголовок.
+ */
+public final class FlowProbe {
+
+    public static final String DIALOG = "mat-dialog-container";
+
+    /**
+     * signal — "url" / "pageHeader" / "dialogHeader" (null — не дождались), value — URL или текст заголовка,
+     * elapsedMs — от arm() до сигнала по часам браузера.
+     */
+    public record Result(String signal, String value, long elapsedMs, String url, String lastHeader) {
+
+        public boolean matched() {
+            return signal != null;
+        }
+
+        /** Заголовок flow: совпавший или последний увиденный. */
+        public String header() {
+            return signal != null && !"url".equals(signal) ? value : lastHeader;
+        }
+
+        @Override
+        public String toString() {
+            return matched()
+                    ? String.format("flow opened via %s in %d ms: %s", signal, elapsedMs, value)
+                    : String.format("flow not opened in %d ms (url=%s, last header=%s)", elapsedMs, url, lastHeader);
+        }
+    }
+
+    private static final String ARM_SCRIPT = """
+            ([source, requireHeader]) => {
+              const re = new RegExp(source);
+              const PAGE = 'app-page-title h3.page-title, h3.page-title';
+              const DIALOG = 'mat-dialog-container [mat-dialog-title], mat-dialog-container .mat-mdc-dialog-title, '
+                + 'mat-dialog-container h1, mat-dialog-container h2, mat-dialog-container h3';
+
+              if (window.__arcaFlow && window.__arcaFlow.stop) window.__arcaFlow.stop();
+              const state = window.__arcaFlow = { start: performance.now(), url: location.href, hit: null, lastHeader: null, waiters: [] };
+
+              const visible = (el) => el.getClientRects().length > 0;
+              const fire = (signal, value) => {
+                if (state.hit) return;
+                state.hit = { signal, value, elapsedMs: performance.now() - state.start };
+                state.stop();
+                state.waiters.forEach((w) => w(state.hit));
+              };
+              const check = () => {
+                if (state.hit) return;
+                if (!requireHeader && location.href !== state.url) { fire('url', location.href); return; }
+                for (const [signal, selector] of [['dialogHeader', DIALOG], ['pageHeader', PAGE]]) {
+                  for (const el of document.querySelectorAll(selector)) {
+                    if (!visible(el)) continue;
+                    const text = (el.innerText || el.textContent || '').trim();
+                    state.lastHeader = text;
+                    if (re.test(text)) { fire(signal, text); return; }
+                  }
+                }
+              };
+              state.check = check;
+
+              const observer = new MutationObserver(check);
+              observer.observe(document, { childList: true, subtree: true, characterData: true });
+              window.addEventListener('popstate', check);
+              window.addEventListener('arca:urlchange', check);
+              state.stop = () => {
+                observer.disconnect();
+                window.removeEventListener('popstate', check);
+                window.removeEventListener('arca:urlchange', check);
+              };
+
+              if (!window.__arcaFlowHistoryPatched) {
+                window.__arcaFlowHistoryPatched = true;
+                for (const name of ['pushState', 'replaceState']) {
+                  const original = history[name];
+                  history[name] = function (...args) {
+                    const result = original.apply(this, args);
+                    window.dispatchEvent(new Event('arca:urlchange'));
+                    return result;
+                  };
+                }
+              }
+              return true;
+            }
+            """;
+
+    private static final String AWAIT_SCRIPT = """
+            (timeoutMs) => new Promise((resolve) => {
+              const state = window.__arcaFlow;
+              if (!state) { resolve(null); return; }
+              const finish = (hit) => resolve({ ...hit, url: location.href, lastHeader: state.lastHeader });
+              state.check();
+              if (state.hit) { finish(state.hit); return; }
+              state.waiters.push(finish);
+              setTimeout(() => {
+                if (state.hit) return;
+                state.stop();
+                resolve({ signal: null, value: null, elapsedMs: performance.now() - state.start, url: location.href, lastHeader: state.lastHeader });
+              }, timeoutMs);
+            })
+            """;
+
+    private final Page page;
+    private final Pattern expected;
+    private final boolean requireHeader;
+    private final String urlBefore;
+    private final long armedAtEpochMs = System.currentTimeMillis();
+    private final long armedAtNs = System.nanoTime();
+
+    private FlowProbe(Page page, Pattern expected, boolean requireHeader) {
+        this.page = page;
+        this.expected = expected;
+        this.requireHeader = requireHeader;
+        this.urlBefore = page.url();
+        install();
+    }
+
+    public static FlowProbe arm(Page page, Pattern expectedHeaders, boolean requireHeader) {
+        return new FlowProbe(page, expectedHeaders, requireHeader);
+    }
+
+    private void install() {
+        page.evaluate(ARM_SCRIPT, List.of(expected.pattern(), requireHeader));
+    }
+
+    /**
+     * Дождаться первого сигнала. Замер пишется в PerfTimeline как "flow.opened".
+     */
+    public Result await(long timeoutMs) {
+        Result result = awaitOnce(timeoutMs);
+        if (result == null) {
+            // полная перезагрузка документа снесла состояние пробы
+            if (!requireHeader && !page.url().equals(urlBefore)) {
+                result = new Result("url", page.url(), elapsedMs(), page.url(), null);
+            } else {
+                page.waitForLoadState();
+                install();
+                result = awaitOnce(Math.max(0, timeoutMs - elapsedMs()));
+                if (result == null) result = new Result(null, null, elapsedMs(), page.url(), null);
+            }
+        }
+
+        if (result.matched()) {
+            PerfTimeline.record("flow.opened", armedAtEpochMs, elapsedMs());
+        }
+        return result;
+    }
+
+    private Result awaitOnce(long timeoutMs) {
+        Object raw;
+        try {
+            raw = page.evaluate(AWAIT_SCRIPT, timeoutMs);
+        } catch (RuntimeException e) {
+            // execution context destroyed — документ сменился во время ожидания
+            return null;
+        }
+        if (!(raw instanceof Map<?, ?> r)) return null;
+
+        return new Result(
+                (String) r.get("signal"),
+                (String) r.get("value"),
+                Math.round(((Number) r.get("elapsedMs")).doubleValue()),
+                (String) r.get("url"),
+                (String) r.get("lastHeader")
+        );
+    }
+
+    private long elapsedMs() {
+        return (System.nanoTime() - armedAtNs) / 1_000_000;
+    }
+
+    /** arm -> click -> await одним вызовом. */
+    public static Result open(Page page, Pattern expectedHeaders, boolean requireHeader, Runnable click, long timeoutMs) {
+        FlowProbe probe = arm(page, expectedHeaders, requireHeader);
+        click.run();
+        return probe.await(timeoutMs);
+    }
+}
@@ -0,0 +1,16 @@
+package baseUtils.crawl;
+
+/**
+ * Один открытый краулером flow. kind — "menu" или "icon"; returnedVia — как вернулись к списку
+ * (history / dialog / none); header — последний увиденный заголовок страницы/диалога.
+ */
+public record FlowVisit(String kind, String action, boolean opened, String header, String urlAfter,
+                        String returnedVia, long durationMs, String error) {
+
+    @Override
+    public String toString() {
+        return String.format("%-4s %-35s %-6s %5d ms  header=\"%s\" back=%s%s",
+                kind, action, opened ? "ok" : "FAIL", durationMs, header, returnedVia,
+                error == null ? "" : "  error=" + error);
+    }
+}
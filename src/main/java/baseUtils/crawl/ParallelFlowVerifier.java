@@ -0,0 +1,118 @@
+package baseUtils.crawl;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.WaitUntilState;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Проверка независимых read-only flow в нескольких вкладках одного context'а (общие cookies/storage).
+ *
+ * Sync API Playwright однопоточный, поэтому параллельность — на стороне браузера:
+ * сначала все вкладки стартуют навигацию (без ожидания загрузки), потом в каждой по очереди
+ * дожидаемся списка и кликаем действие (flow грузится в фоне, пока кликаем в следующей),
+ * и только потом собираем заголовки — к этому моменту большинство flow уже открыто.
+ *
+ * Длительность flow — от arm() пробы (после загрузки списка, прямо перед кликом) до заголовка по часам браузера
+ * (FlowProbe.Result.elapsedMs): загрузка списка в неё не входит, а время Java-потока не годится —
+ * результаты собираются по очереди уже после всех кликов.
+ */
+public class ParallelFlowVerifier {
+
+    /**
+     * Один flow: route — откуда стартуем (href списка), open — дождаться списка и вернуть клик по действию
+     * (проба ставится между ними).
+     */
+    public record FlowTask(String name, String route, Function<Page, Runnable> open) {}
+
+    private final BrowserContext context;
+    private final String baseUrl;
+    private final Pattern expectedHeaders;
+    private final int maxTabs;
+
+    private long flowTimeoutMs = 10_000;
+
+    public ParallelFlowVerifier(BrowserContext context, String baseUrl, Pattern expectedHeaders, int maxTabs) {
+        if (maxTabs < 1) throw new IllegalArgumentException("maxTabs must be >= 1, got " + maxTabs);
+        this.context = context;
+        this.baseUrl = baseUrl;
+        this.expectedHeaders = expectedHeaders;
+        this.maxTabs = maxTabs;
+    }
+
+    public ParallelFlowVerifier withFlowTimeout(long flowTimeoutMs) {
+        this.flowTimeoutMs = flowTimeoutMs;
+        return this;
+    }
+
+    /** Результат на каждую задачу, в порядке tasks. Вкладки закрываются после пачки. */
+    public List<FlowVisit> verify(List<FlowTask> tasks) {
+        List<FlowVisit> results = new ArrayList<>();
+        for (int from = 0; from < tasks.size(); from += maxTabs) {
+            results.addAll(verifyBatch(tasks.subList(from, Math.min(tasks.size(), from + maxTabs))));
+        }
+        return results;
+    }
+
+    private List<FlowVisit> verifyBatch(List<FlowTask> batch) {
+        List<Page> tabs = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        List<Long> triggerMs = new ArrayList<>();
+
+        try {
+            // 1) все вкладки начинают грузить список одновременно
+            for (FlowTask task : batch) {
+                Page tab = context.newPage();
+                tabs.add(tab);
+                tab.navigate(URI.create(baseUrl).resolve(task.route()).toString(),
+                        new Page.NavigateOptions().setWaitUntil(WaitUntilState.COMMIT));
+            }
+
+            // 2) в каждой вкладке — список, проба, клик по действию; flow грузится в фоне
+            List<FlowProbe> probes = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                long start = System.nanoTime();
+                try {
+                    Runnable trigger = batch.get(i).open().apply(tabs.get(i));
+                    start = System.nanoTime();
+                    probes.add(FlowProbe.arm(tabs.get(i), expectedHeaders, true));
+                    trigger.run();
+                    errors.add(null);
+                } catch (RuntimeException e) {
+                    if (probes.size() <= i) probes.add(null);
+                    errors.add(e.getMessage());
+                }
+                triggerMs.add((System.nanoTime() - start) / 1_000_000);
+            }
+
+            // 3) собираем результаты по вкладкам
+            List<FlowVisit> visits = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                Page tab = tabs.get(i);
+                FlowProbe.Result result = errors.get(i) == null ? probes.get(i).await(flowTimeoutMs) : null;
+                // упавший trigger — сколько он успел проработать
+                long durationMs = result != null ? result.elapsedMs() : triggerMs.get(i);
+
+                visits.add(new FlowVisit("tab" + (i + 1), batch.get(i).name(), result != null && result.matched(),
+                        result != null ? result.header() : null, tab.url(), "-", durationMs, errors.get(i)));
+            }
+            return visits;
+        } finally {
+            for (Page tab : tabs) {
+                try { tab.close(); } catch (RuntimeException ignored) {}
+            }
+        }
+    }
+
+    public static String toText(String title, List<FlowVisit> visits) {
+        StringBuilder sb = new StringBuilder(String.format("%s: %d flows in parallel tabs, %d opened%n",
+                title, visits.size(), visits.stream().filter(FlowVisit::opened).count()));
+        visits.forEach(v -> sb.append("  ").append(v).append(System.lineSeparator()));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,243 @@
+package baseUtils.crawl;
+
+import baseUtils.perf.LoadTimingProbe;
+import baseUtils.perf.PageLoadTiming;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.options.WaitUntilState;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Краулер вкладок сайдбара: находит все aside.sidebar-nav a[href] в рантайме и открывает каждый
+ * маршрут напрямую по URL. У каждого воркера свой Playwright + Browser + один context,
+ * внутри context'а маршруты грузятся пачками по pagesPerWorker параллельных страниц
+ * (навигации стартуют сразу, ждём уже потом — время меряется в браузере, так что последовательный
+ * сбор его не искажает).
+ */
+public class RouteCrawler {
+
+    private static final String SIDEBAR_LINKS = "aside.sidebar-nav a[href]";
+    private static final String SIDEBAR_SECTIONS = "aside.sidebar-nav a[aria-label^='global.']";
+
+    private final String baseUrl;
+    private final int workers;
+    private final int pagesPerWorker;
+    private final boolean headless;
+
+    // сколько ждать, пока таблица маршрута перестанет меняться
+    private long quietMs = 300;
+    private long timeoutMs = 15_000;
+
+    public RouteCrawler(String baseUrl, int workers, int pagesPerWorker, boolean headless) {
+        if (workers < 1) throw new IllegalArgumentException("workers must be >= 1, got " + workers);
+        if (pagesPerWorker < 1) throw new IllegalArgumentException("pagesPerWorker must be >= 1, got " + pagesPerWorker);
+        this.baseUrl = baseUrl;
+        this.workers = workers;
+        this.pagesPerWorker = pagesPerWorker;
+        this.headless = headless;
+    }
+
+    public RouteCrawler withTimeouts(long quietMs, long timeoutMs) {
+        this.quietMs = quietMs;
+        this.timeoutMs = timeoutMs;
+        return this;
+    }
+
+    /**
+     * Маршруты из сайдбара открытой страницы. Разделы раскрываются по очереди: дочерние ссылки
+     * могут рендериться только у раскрытого раздела.
+     */
+    public static List<String> discoverRoutes(Page page) {
+        Set<String> routes = new LinkedHashSet<>();
+
+        Locator burger = page.locator("aside.sidebar-nav.collapsed button:has(mat-icon:has-text('menu'))");
+        if (burger.count() > 0) burger.first().click();
+
+        collectLinks(page, routes);
+        Locator sections = page.locator(SIDEBAR_SECTIONS);
+        for (int i = 0; i < sections.count(); i++) {
+            sections.nth(i).click();
+            collectLinks(page, routes);
+        }
+        return new ArrayList<>(routes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void collectLinks(Page page, Set<String> routes) {
+        List<String> hrefs = (List<String>) page.evaluate(
+                "(selector) => [...document.querySelectorAll(selector)].map((a) => a.getAttribute('href'))",
+                SIDEBAR_LINKS);
+        for (String href : hrefs) {
+            if (href != null && href.startsWith("/") && href.length() > 1) routes.add(href);
+        }
+    }
+
+    /** Открыть baseUrl, найти маршруты и обойти их. */
+    public List<RouteHealth> crawl() {
+        List<String> routes;
+        try (Playwright playwright = Playwright.create();
+             Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions().setHeadless(headless));
+             BrowserContext context = browser.newContext(new Browser.NewContextOptions().setViewportSize(1920, 1080))) {
+            Page page = context.newPage();
+            page.navigate(baseUrl);
+            page.locator(SIDEBAR_LINKS).first().waitFor();
+            routes = discoverRoutes(page);
+        }
+        return crawl(routes);
+    }
+
+    public List<RouteHealth> crawl(List<String> routes) {
+        List<List<String>> shards = new ArrayList<>();
+        for (int i = 0; i < Math.min(workers, routes.size()); i++) shards.add(new ArrayList<>());
+        for (int i = 0; i < routes.size(); i++) shards.get(i % shards.size()).add(routes.get(i));
+
+        List<RouteHealth> results = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, shards.size()), r -> {
+            Thread t = new Thread(r, "route-crawler-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (List<String> shard : shards) {
+                futures.add(executor.submit(() -> results.addAll(crawlShard(shard))));
+            }
+            for (Future<?> f : futures) {
+                try {
+                    f.get();
+                } catch (Exception e) {
+                    throw new IllegalStateException("Route crawler worker failed", e);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            try {
+                executor.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        List<RouteHealth> ordered = new ArrayList<>(results);
+        ordered.sort(Comparator.comparingInt(r -> routes.indexOf(r.route())));
+        return ordered;
+    }
+
+    private List<RouteHealth> crawlShard(List<String> routes) {
+        List<RouteHealth> results = new ArrayList<>();
+        try (Playwright playwright = Playwright.create();
+             Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions().setHeadless(headless));
+             BrowserContext context = browser.newContext(new Browser.NewContextOptions().setViewportSize(1920, 1080))) {
+
+            for (int from = 0; from < routes.size(); from += pagesPerWorker) {
+                List<RouteVisit> batch = new ArrayList<>();
+                for (String route : routes.subList(from, Math.min(routes.size(), from + pagesPerWorker))) {
+                    batch.add(RouteVisit.start(context, resolve(route), route));
+                }
+                for (RouteVisit visit : batch) {
+                    results.add(visit.finish(quietMs, timeoutMs));
+                }
+            }
+        }
+        return results;
+    }
+
+    private String resolve(String route) {
+        return URI.create(baseUrl).resolve(route).toString();
+    }
+
+    /** Одна страница краулера: слушатели ошибок вешаются до навигации. */
+    private static final class RouteVisit {
+
+        private final String route;
+        private final Page page;
+        private final List<String> consoleErrors = new ArrayList<>();
+        private final List<String> failedRequests = new ArrayList<>();
+        private String loadError;
+
+        private RouteVisit(String route, Page page) {
+            this.route = route;
+            this.page = page;
+        }
+
+        static RouteVisit start(BrowserContext context, String url, String route) {
+            Page page = context.newPage();
+            RouteVisit visit = new RouteVisit(route, page);
+
+            page.onConsoleMessage(m -> {
+                if ("error".equals(m.type())) visit.consoleErrors.add(m.text());
+            });
+            page.onPageError(error -> visit.consoleErrors.add("uncaught: " + error));
+            page.onRequestFailed(r -> visit.failedRequests.add(r.method() + " " + r.url() + " — " + r.failure()));
+            page.onResponse(r -> {
+                if (r.status() >= 400) visit.failedRequests.add(r.request().method() + " " + r.url() + " — HTTP " + r.status());
+            });
+
+            LoadTimingProbe.install(page);
+            try {
+                // только commit: остальные страницы пачки стартуют, не дожидаясь загрузки этой
+                page.navigate(url, new Page.NavigateOptions().setWaitUntil(WaitUntilState.COMMIT));
+            } catch (RuntimeException e) {
+                visit.loadError = e.getMessage();
+            }
+            return visit;
+        }
+
+        RouteHealth finish(long quietMs, long timeoutMs) {
+            try {
+                if (loadError != null) {
+                    return new RouteHealth(route, page.url(), loadError, -1, null, consoleErrors, failedRequests);
+                }
+
+                PageLoadTiming timing = LoadTimingProbe.collect(page, route, quietMs, timeoutMs);
+                Number dcl = (Number) page.evaluate(
+                        "() => { const n = performance.getEntriesByType('navigation')[0]; return n ? n.domContentLoadedEventEnd : -1; }");
+                return new RouteHealth(route, page.url(), null, dcl.doubleValue(), timing,
+                        List.copyOf(consoleErrors), List.copyOf(failedRequests));
+            } catch (RuntimeException e) {
+                return new RouteHealth(route, page.url(), e.getMessage(), -1, null, consoleErrors, failedRequests);
+            } finally {
+                page.close();
+            }
+        }
+    }
+
+    public static String toText(List<RouteHealth> results) {
+        StringBuilder sb = new StringBuilder(String.format("Sidebar route sweep: %d routes, %d loaded, %d clean%n%n",
+                results.size(), results.stream().filter(RouteHealth::loaded).count(), results.stream().filter(RouteHealth::clean).count()));
+
+        sb.append(String.format("%-40s %8s %8s %6s %7s %7s  %s%n", "route", "DCL ms", "ready ms", "rows", "console", "failed", "status"));
+        for (RouteHealth r : results) {
+            sb.append(String.format("%-40s %8.0f %8.0f %6d %7d %7d  %s%n",
+                    r.route(), r.domContentLoadedMs(), r.readyMs(), r.timing() == null ? 0 : r.timing().rows(),
+                    r.consoleErrors().size(), r.failedRequests().size(),
+                    r.loadError() != null ? "ERROR: " + r.loadError() : r.loaded() ? "ok" : "redirected to " + r.finalUrl()));
+        }
+
+        for (RouteHealth r : results) {
+            if (r.consoleErrors().isEmpty() && r.failedRequests().isEmpty()) continue;
+            sb.append(String.format("%n%s%n", r.route()));
+            r.consoleErrors().forEach(e -> sb.append("  console: ").append(e).append(System.lineSeparator()));
+            r.failedRequests().forEach(e -> sb.append("  request: ").append(e).append(System.lineSeparator()));
+        }
+        return sb.toString();
+    }
+}
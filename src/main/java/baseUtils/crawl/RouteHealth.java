@@ -0,0 +1,29 @@
+package baseUtils.crawl;
+
+import baseUtils.perf.PageLoadTiming;
+
+import java.util.List;
+
+/**
+ * Итог загрузки одного маршрута краулером.
+ * loadError — навигация не удалась (null — загрузилась), timing — фазы из LoadTimingProbe.
+ */
+public record RouteHealth(String route, String finalUrl, String loadError, double domContentLoadedMs,
+                          PageLoadTiming timing, List<String> consoleErrors, List<String> failedRequests) {
+
+    public boolean loaded() {
+        return loadError == null && finalUrl != null && finalUrl.contains(route);
+    }
+
+    public boolean clean() {
+        return loaded() && consoleErrors.isEmpty() && failedRequests.isEmpty();
+    }
+
+    /** Готовность страницы: дорисованная таблица, иначе первый ответ API, иначе DOMContentLoaded. */
+    public double readyMs() {
+        if (timing == null) return -1;
+        if (timing.lastRowMs() >= 0) return timing.lastRowMs();
+        if (timing.firstDataResponseMs() >= 0) return timing.firstDataResponseMs();
+        return domContentLoadedMs;
+    }
+}
@@ -0,0 +1,55 @@
+package baseUtils.crawl;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.options.WaitForSelectorState;
+
+import java.util.List;
+
+/**
+ * Действия строки списка, которые умеет обходить RowActionsCrawler:
+ * пункты kebab-меню (mat-mdc-menu-panel) и иконки в колонке Actions.
+ *
+ * Чтение пунктов и иконок общее для всех списков (default-методы) — странице достаточно
+ * открыть меню, отдать его панель и ячейку Actions строки.
+ */
+public interface RowActions {
+
+    /** Дождаться, что список открыт (после возврата из flow). */
+    void waitOpened();
+
+    /** Открыть kebab-меню строки и дождаться панели. */
+    void openActionsMenu(int rowIndex);
+
+    /** Видимая панель открытого меню. */
+    Locator actionsMenuPanel();
+
+    /** Ячейка Actions строки. */
+    Locator actionsCell(int rowIndex);
+
+    /** Пункты меню строки: открыть меню, прочитать названия, закрыть. */
+    @SuppressWarnings("unchecked")
+    default List<String> actionsMenuItems(int rowIndex) {
+        openActionsMenu(rowIndex);
+
+        Locator panel = actionsMenuPanel();
+        List<String> items = (List<String>) panel.locator("[role='menuitem']").evaluateAll(
+                "items => items.map(i => (i.querySelector('.mat-mdc-menu-item-text') || i).textContent.trim())");
+
+        // закрываем меню, ничего не выбрав
+        panel.page().keyboard().press("Escape");
+        panel.waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.HIDDEN));
+        return items;
+    }
+
+    /** aria-label иконок-кнопок в Actions строки (без kebab-триггера). */
+    @SuppressWarnings("unchecked")
+    default List<String> actionIcons(int rowIndex) {
+        return (List<String>) actionsCell(rowIndex)
+                .locator("button:not(.mat-mdc-menu-trigger):not([aria-haspopup='menu']) mat-icon[aria-label]")
+                .evaluateAll("icons => icons.map(i => i.getAttribute('aria-label'))");
+    }
+
+    void clickActionsMenuItem(int rowIndex, String name);
+
+    void clickActionIcon(int rowIndex, String ariaLabel);
+}
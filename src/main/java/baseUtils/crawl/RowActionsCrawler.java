@@ -0,0 +1,107 @@
+package baseUtils.crawl;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.WaitForSelectorState;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Обход всех действий строки за одну загрузку списка: каждый пункт kebab-меню и каждая иконка
+ * в Actions открываются по очереди, заголовок flow ловит FlowProbe, затем возврат к списку —
+ * history.back() для нового роута или закрытие диалога. Полная загрузка документа — только одна.
+ */
+public class RowActionsCrawler {
+
+    private final Page page;
+    private final RowActions list;
+    private final Pattern expectedHeaders;
+
+    private long flowTimeoutMs = 5_000;
+    private int documentLoads;
+
+    public RowActionsCrawler(Page page, RowActions list, Pattern expectedHeaders) {
+        this.page = page;
+        this.list = list;
+        this.expectedHeaders = expectedHeaders;
+        page.onLoad(p -> documentLoads++);
+    }
+
+    public RowActionsCrawler withFlowTimeout(long flowTimeoutMs) {
+        this.flowTimeoutMs = flowTimeoutMs;
+        return this;
+    }
+
+    /** Сколько раз за обход документ грузился заново (в норме 0 — возвраты идут через SPA-роутер). */
+    public int documentLoads() {
+        return documentLoads;
+    }
+
+    /**
+     * Обойти все действия строки rowIndex. Список должен быть уже открыт.
+     */
+    public List<FlowVisit> crawl(int rowIndex) {
+        List<FlowVisit> visits = new ArrayList<>();
+
+        for (String item : list.actionsMenuItems(rowIndex)) {
+            visits.add(visit("menu", item, () -> list.clickActionsMenuItem(rowIndex, item)));
+        }
+        for (String icon : list.actionIcons(rowIndex)) {
+            visits.add(visit("icon", icon, () -> list.clickActionIcon(rowIndex, icon)));
+        }
+        return visits;
+    }
+
+    private FlowVisit visit(String kind, String action, Runnable open) {
+        String listUrl = page.url();
+        long start = System.nanoTime();
+
+        FlowProbe.Result result = null;
+        String error = null;
+        try {
+            result = FlowProbe.open(page, expectedHeaders, true, open, flowTimeoutMs);
+        } catch (RuntimeException e) {
+            error = e.getMessage();
+        }
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+
+        String returnedVia = returnToList(listUrl);
+        return new FlowVisit(kind, action, result != null && result.matched(), result != null ? result.header() : null,
+                page.url(), returnedVia, durationMs, error);
+    }
+
+    private String returnToList(String listUrl) {
+        Locator dialog = page.locator(FlowProbe.DIALOG);
+        if (dialog.count() > 0) {
+            page.keyboard().press("Escape");
+            try {
+                dialog.first().waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.DETACHED).setTimeout(3_000));
+            } catch (RuntimeException e) {
+                page.locator("mat-dialog-container [mat-dialog-close]").first().click();
+                dialog.first().waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.DETACHED));
+            }
+            list.waitOpened();
+            return "dialog";
+        }
+
+        if (!page.url().equals(listUrl)) {
+            page.goBack();
+            page.waitForURL(listUrl);
+            list.waitOpened();
+            return "history";
+        }
+
+        // ни диалога, ни нового роута — закрываем возможные оверлеи (меню) и остаёмся на списке
+        page.keyboard().press("Escape");
+        return "none";
+    }
+
+    public static String toText(String title, List<FlowVisit> visits, int documentLoads) {
+        StringBuilder sb = new StringBuilder(String.format("%s: %d flows, %d opened, %d extra document load(s)%n",
+                title, visits.size(), visits.stream().filter(FlowVisit::opened).count(), documentLoads));
+        visits.forEach(v -> sb.append("  ").append(v).append(System.lineSeparator()));
+        return sb.toString();
+    }
+}
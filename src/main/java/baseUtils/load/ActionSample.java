@@ -0,0 +1,7 @@
+package baseUtils.load;
+
+/**
+ * Замер одного действия сессии (шаг page-object'а или группа шагов).
+ */
+public record ActionSample(int sessionId, String action, long startEpochMs, long durationMs, boolean ok, String error) {
+}
@@ -0,0 +1,117 @@
+package baseUtils.load;
+
+import baseUtils.browser.ToastLog;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import pages.mainPage.MenuBarPage;
+import pages.payment.dictionary.DeletePaymentDictionaryItemsPage;
+import pages.payment.dictionary.EditPaymentDictionaryItemsPage;
+import pages.payment.dictionary.PaymentDictionaryListPage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Одна операторская сессия симулятора: свой BrowserContext, свои page-object'ы и журнал замеров.
+ * Живёт в одном потоке воркера (Playwright не потокобезопасен).
+ */
+public class AdminSession {
+
+    private final int id;
+    private final BrowserContext context;
+    private final Page page;
+
+    private final MenuBarPage menuBar;
+    private final PaymentDictionaryListPage listPage;
+    private final EditPaymentDictionaryItemsPage editPage;
+    private final DeletePaymentDictionaryItemsPage deletePage;
+
+    private final List<ActionSample> samples = Collections.synchronizedList(new ArrayList<>());
+    private final List<WriteRecord> writes = Collections.synchronizedList(new ArrayList<>());
+
+    AdminSession(int id, BrowserContext context, Page page) {
+        this.id = id;
+        this.context = context;
+        this.page = page;
+
+        this.menuBar = new MenuBarPage(page);
+        this.listPage = new PaymentDictionaryListPage(page);
+        this.editPage = new EditPaymentDictionaryItemsPage(page);
+        this.deletePage = new DeletePaymentDictionaryItemsPage(page);
+    }
+
+    public int id() {
+        return id;
+    }
+
+    public BrowserContext context() {
+        return context;
+    }
+
+    public Page page() {
+        return page;
+    }
+
+    public MenuBarPage menuBar() {
+        return menuBar;
+    }
+
+    public PaymentDictionaryListPage listPage() {
+        return listPage;
+    }
+
+    public EditPaymentDictionaryItemsPage editPage() {
+        return editPage;
+    }
+
+    public DeletePaymentDictionaryItemsPage deletePage() {
+        return deletePage;
+    }
+
+    // ===== Замеры =====
+
+    public void timed(String action, Runnable step) {
+        timed(action, () -> {
+            step.run();
+            return null;
+        });
+    }
+
+    /**
+     * Выполнить шаг и записать его длительность. Исключение пробрасывается дальше (сессия падает),
+     * но замер с ok=false остаётся в отчёте.
+     */
+    public <T> T timed(String action, Supplier<T> step) {
+        long start = System.currentTimeMillis();
+        long startNs = System.nanoTime();
+        try {
+            T result = step.get();
+            samples.add(new ActionSample(id, action, start, (System.nanoTime() - startNs) / 1_000_000, true, null));
+            return result;
+        } catch (RuntimeException | Error e) {
+            samples.add(new ActionSample(id, action, start, (System.nanoTime() - startNs) / 1_000_000, false, e.getMessage()));
+            throw e;
+        }
+    }
+
+    public void recordWrite(String entryId, String valueBefore, String valueAfter, long savedAtEpochMs, boolean acknowledged) {
+        writes.add(new WriteRecord(id, entryId, valueBefore, valueAfter, savedAtEpochMs, acknowledged));
+    }
+
+    /**
+     * Тост с текстом (contains), появившийся не раньше since (ToastLog.mark). false — если за timeoutMs не появился.
+     */
+    public boolean awaitToast(String text, long since, long timeoutMs) {
+        return ToastLog.await(page, text, since, timeoutMs) != null;
+    }
+
+    List<ActionSample> samples() {
+        return samples;
+    }
+
+    List<WriteRecord> writes() {
+        return writes;
+    }
+}
@@ -0,0 +1,171 @@
+package baseUtils.load;
+
+import baseUtils.browser.CpuThrottling;
+import baseUtils.browser.NetworkProfile;
+import baseUtils.browser.NetworkThrottling;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Симулятор нескольких операторов: N изолированных BrowserContext'ов из ограниченного пула воркеров.
+ *
+ * У каждого воркера свой Playwright + Browser (объекты Playwright привязаны к потоку),
+ * каждая сессия — новый context в браузере своего воркера. Если sessions <= workers,
+ * все сессии стартуют сценарий одновременно (после загрузки BASE_URL) — так правки реально пересекаются.
+ */
+public class AdminSessionSimulator {
+
+    private final String baseUrl;
+    private final int workers;
+    private final boolean headless;
+
+    public AdminSessionSimulator(String baseUrl, int workers) {
+        this(baseUrl, workers, true);
+    }
+
+    public AdminSessionSimulator(String baseUrl, int workers, boolean headless) {
+        if (workers < 1) throw new IllegalArgumentException("workers must be >= 1, got " + workers);
+        this.baseUrl = baseUrl;
+        this.workers = workers;
+        this.headless = headless;
+    }
+
+    /**
+     * Запустить sessions сессий; сценарий выбирается по id сессии (1..sessions).
+     * finalValueReader — для поиска lost update (null — не проверять).
+     */
+    public SimulationReport run(int sessions, IntFunction<SessionScript> scriptForSession,
+                                Function<String, String> finalValueReader) {
+        List<ActionSample> samples = Collections.synchronizedList(new ArrayList<>());
+        List<WriteRecord> writes = Collections.synchronizedList(new ArrayList<>());
+        Map<Integer, String> failed = new ConcurrentHashMap<>();
+
+        Phaser startGate = sessions <= workers ? new Phaser(sessions) : null;
+
+        List<Browser> browsers = Collections.synchronizedList(new ArrayList<>());
+        List<Playwright> playwrights = Collections.synchronizedList(new ArrayList<>());
+        ThreadLocal<Browser> workerBrowser = new ThreadLocal<>();
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "admin-session-" + threadCounter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 1; i <= sessions; i++) {
+                int sessionId = i;
+                futures.add(executor.submit(() -> {
+                    Browser browser = workerBrowser.get();
+                    if (browser == null) {
+                        try {
+                            Playwright playwright = Playwright.create();
+                            playwrights.add(playwright);
+                            browser = playwright.chromium().launch(new BrowserType.LaunchOptions().setHeadless(headless));
+                            browsers.add(browser);
+                            workerBrowser.set(browser);
+                        } catch (Exception e) {
+                            failed.put(sessionId, "browser launch: " + e.getClass().getSimpleName() + ": " + e.getMessage());
+                            // до старта эта сессия не дойдёт — выходим из числа ожидаемых
+                            if (startGate != null) startGate.arriveAndDeregister();
+                            return;
+                        }
+                    }
+                    runSession(browser, sessionId, scriptForSession, startGate, samples, writes, failed);
+                }));
+            }
+
+            for (Future<?> f : futures) {
+                try {
+                    f.get();
+                } catch (Exception e) {
+                    failed.putIfAbsent(-1, String.valueOf(e));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            try {
+                executor.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // закрываем после остановки воркеров — параллельного доступа уже нет
+            browsers.forEach(b -> {
+                try { b.close(); } catch (Exception ignored) {}
+            });
+            playwrights.forEach(p -> {
+                try { p.close(); } catch (Exception ignored) {}
+            });
+        }
+
+        List<LostUpdateDetector.LostUpdate> lost = finalValueReader != null
+                ? LostUpdateDetector.detect(new ArrayList<>(writes), finalValueReader)
+                : List.of();
+
+        return new SimulationReport(sessions, workers, samples, writes, failed, lost);
+    }
+
+    private void runSession(Browser browser, int sessionId, IntFunction<SessionScript> scriptForSession, Phaser startGate,
+                            List<ActionSample> samples, List<WriteRecord> writes, Map<Integer, String> failed) {
+        BrowserContext context = null;
+        AdminSession session = null;
+        boolean reachedGate = false;
+        try {
+            SessionScript script = scriptForSession.apply(sessionId);
+            context = browser.newContext(new Browser.NewContextOptions().setViewportSize(1920, 1080));
+            NetworkThrottling.apply(context, NetworkProfile.fromSystemProperty());
+            CpuThrottling.apply(context, CpuThrottling.rateFromSystemProperty());
+
+            Page page = context.newPage();
+            page.navigate(baseUrl);
+            session = new AdminSession(sessionId, context, page);
+
+            reachedGate = true;
+            awaitStart(startGate);
+            script.run(session);
+        } catch (Exception | AssertionError e) {
+            failed.put(sessionId, e.getClass().getSimpleName() + ": " + e.getMessage());
+            // упали до старта — иначе остальные ждали бы эту сессию все 2 минуты
+            if (startGate != null && !reachedGate) startGate.arriveAndDeregister();
+        } finally {
+            if (session != null) {
+                samples.addAll(session.samples());
+                writes.addAll(session.writes());
+            }
+            if (context != null) {
+                try { context.close(); } catch (Exception ignored) {}
+            }
+        }
+    }
+
+    private static void awaitStart(Phaser startGate) {
+        if (startGate == null) return;
+        try {
+            startGate.awaitAdvanceInterruptibly(startGate.arrive(), 2, TimeUnit.MINUTES);
+        } catch (TimeoutException e) {
+            // кто-то завис на старте — остальные идут без синхронного старта
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
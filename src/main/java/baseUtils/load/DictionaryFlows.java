@@ -0,0 +1,66 @@
+package baseUtils.load;
+
+import baseUtils.browser.ToastLog;
+import java.util.function.IntFunction;
+import java.util.regex.Pattern;
+
+/**
+ * Готовые сценарии Payment Dictionary для симулятора (на базе list/edit/delete page-object'ов).
+ */
+public final class DictionaryFlows {
+
+    private static final Pattern URL_LIST = Pattern.compile(".*/payment/dictionary/list.*");
+
+    // Текст success-тоста после сохранения/удаления отличается, общая часть одна
+    private static final String TOAST_SUCCESS = "successfully";
+
+    private DictionaryFlows() {}
+
+    public static SessionScript openList() {
+        return s -> s.timed("list.open", () -> {
+            s.menuBar().clickPaymentDictionary();
+            s.listPage().waitOpened();
+        });
+    }
+
+    /**
+     * Открыть запись на edit, запомнить текущее значение и сохранить своё.
+     * valueForSession — значение по id сессии (должно быть уникальным, иначе lost update не отличить).
+     */
+    public static SessionScript editValue(String entryId, IntFunction<String> valueForSession) {
+        return openList().then(s -> {
+            s.timed("list.waitEntry", () -> s.listPage().waitEntryIdVisible(entryId));
+            s.timed("list.selectRow", () -> s.listPage().selectRowByEntryId(entryId));
+            s.timed("list.clickEditSelected", () -> s.listPage().clickEditSelected());
+            s.timed("edit.waitOpened", () -> s.editPage().waitOpened());
+
+            String before = s.timed("edit.readValue", () -> s.editPage().getRowValue(0));
+            String after = valueForSession.apply(s.id());
+
+            s.timed("edit.setValue", () -> s.editPage().setRowValue(0, after));
+
+            long savedAt = System.currentTimeMillis();
+            long toastSince = ToastLog.mark(s.page());
+            boolean acknowledged = s.timed("edit.save", () -> {
+                s.editPage().clickSaveAndWaitList(URL_LIST);
+                return s.awaitToast(TOAST_SUCCESS, toastSince, 10_000);
+            });
+
+            s.recordWrite(entryId, before, after, savedAt, acknowledged);
+        });
+    }
+
+    /**
+     * Удаление через чекбокс + "Delete selected" -> страница удаления.
+     */
+    public static SessionScript deleteSelected(String entryId) {
+        return openList().then(s -> {
+            s.timed("list.waitEntry", () -> s.listPage().waitEntryIdVisible(entryId));
+            s.timed("list.selectRow", () -> s.listPage().selectRowByEntryId(entryId));
+            s.timed("list.clickDeleteSelected", () -> s.listPage().clickDeleteSelected());
+            s.timed("delete.waitOpened", () -> s.deletePage().waitOpened());
+            s.timed("delete.clickDelete", () -> s.deletePage().clickDelete());
+            s.timed("delete.waitEmptyState", () -> s.deletePage().waitEmptyState());
+        });
+    }
+}
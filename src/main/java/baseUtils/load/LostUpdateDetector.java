@@ -0,0 +1,66 @@
+package baseUtils.load;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Поиск потерянных обновлений: две сессии правят один entryId, обе получают success,
+ * но правка одной молча затёрта другой (никто её не видел до своей правки).
+ *
+ * Правка W считается потерянной, если:
+ * - W подтверждена UI (acknowledged),
+ * - итоговое значение != W.valueAfter,
+ * - ни одна другая подтверждённая правка не начиналась с W.valueAfter (т.е. W никто не "увидел").
+ */
+public final class LostUpdateDetector {
+
+    public record LostUpdate(String entryId, WriteRecord lost, List<WriteRecord> concurrentWrites, String finalValue) {
+
+        @Override
+        public String toString() {
+            return "entryId=" + entryId
+                    + ": session #" + lost.sessionId() + " saved '" + lost.valueAfter() + "' (saw '" + lost.valueBefore() + "')"
+                    + ", final='" + finalValue + "'"
+                    + ", overwritten by sessions " + concurrentWrites.stream()
+                    .filter(w -> w != lost)
+                    .map(w -> "#" + w.sessionId())
+                    .collect(Collectors.joining(", "));
+        }
+    }
+
+    private LostUpdateDetector() {}
+
+    /**
+     * finalValueReader — прочитать итоговое значение по entryId (UI или API) после окончания всех сессий.
+     */
+    public static List<LostUpdate> detect(List<WriteRecord> writes, Function<String, String> finalValueReader) {
+        Map<String, List<WriteRecord>> byEntry = writes.stream()
+                .filter(WriteRecord::acknowledged)
+                .collect(Collectors.groupingBy(WriteRecord::entryId));
+
+        List<LostUpdate> lost = new ArrayList<>();
+        for (Map.Entry<String, List<WriteRecord>> e : byEntry.entrySet()) {
+            List<WriteRecord> entryWrites = e.getValue();
+            if (entryWrites.size() < 2) continue;
+
+            entryWrites.sort(Comparator.comparingLong(WriteRecord::savedAtEpochMs));
+            String finalValue = finalValueReader.apply(e.getKey());
+
+            for (WriteRecord w : entryWrites) {
+                if (Objects.equals(w.valueAfter(), finalValue)) continue;
+
+                boolean seenByOthers = entryWrites.stream()
+                        .anyMatch(other -> other != w && Objects.equals(other.valueBefore(), w.valueAfter()));
+                if (!seenByOthers) {
+                    lost.add(new LostUpdate(e.getKey(), w, entryWrites, finalValue));
+                }
+            }
+        }
+        return lost;
+    }
+}
@@ -0,0 +1,17 @@
+package baseUtils.load;
+
+/**
+ * Сценарий одной операторской сессии (собирается из page-object'ов, см. DictionaryFlows).
+ */
+@FunctionalInterface
+public interface SessionScript {
+
+    void run(AdminSession session);
+
+    default SessionScript then(SessionScript next) {
+        return session -> {
+            run(session);
+            next.run(session);
+        };
+    }
+}
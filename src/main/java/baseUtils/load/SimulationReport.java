@@ -0,0 +1,78 @@
+package baseUtils.load;
+
+import baseUtils.perf.Stats;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Итог симуляции: латентность по действиям под нагрузкой, упавшие сессии, потерянные обновления.
+ */
+public class SimulationReport {
+
+    private final int sessions;
+    private final int workers;
+    private final List<ActionSample> samples;
+    private final List<WriteRecord> writes;
+    private final Map<Integer, String> failedSessions;
+    private final List<LostUpdateDetector.LostUpdate> lostUpdates;
+
+    SimulationReport(int sessions, int workers, List<ActionSample> samples, List<WriteRecord> writes,
+                     Map<Integer, String> failedSessions, List<LostUpdateDetector.LostUpdate> lostUpdates) {
+        this.sessions = sessions;
+        this.workers = workers;
+        this.samples = List.copyOf(samples);
+        this.writes = List.copyOf(writes);
+        this.failedSessions = Map.copyOf(failedSessions);
+        this.lostUpdates = List.copyOf(lostUpdates);
+    }
+
+    public List<ActionSample> samples() {
+        return samples;
+    }
+
+    public List<WriteRecord> writes() {
+        return writes;
+    }
+
+    public Map<Integer, String> failedSessions() {
+        return failedSessions;
+    }
+
+    public List<LostUpdateDetector.LostUpdate> lostUpdates() {
+        return lostUpdates;
+    }
+
+    public String toText() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Sessions=%d, workers=%d, failed sessions=%d, writes=%d, lost updates=%d%n",
+                sessions, workers, failedSessions.size(), writes.size(), lostUpdates.size()));
+
+        sb.append(String.format("%n%-28s %6s %6s %8s %8s %8s %8s%n", "action", "count", "errors", "p50", "p95", "max", "mean"));
+
+        Map<String, List<ActionSample>> byAction = new TreeMap<>(samples.stream()
+                .collect(Collectors.groupingBy(ActionSample::action)));
+        for (Map.Entry<String, List<ActionSample>> e : byAction.entrySet()) {
+            List<Long> durations = e.getValue().stream().map(ActionSample::durationMs).toList();
+            long errors = e.getValue().stream().filter(s -> !s.ok()).count();
+
+            sb.append(String.format("%-28s %6d %6d %8.0f %8.0f %8.0f %8.0f%n",
+                    e.getKey(), durations.size(), errors,
+                    Stats.percentile(durations, 50), Stats.percentile(durations, 95),
+                    Stats.max(durations), Stats.mean(durations)));
+        }
+
+        if (!failedSessions.isEmpty()) {
+            sb.append("\nFailed sessions:\n");
+            failedSessions.forEach((id, error) -> sb.append("  #").append(id).append(": ").append(error).append('\n'));
+        }
+
+        if (!lostUpdates.isEmpty()) {
+            sb.append("\nLost updates:\n");
+            lostUpdates.forEach(l -> sb.append("  ").append(l).append('\n'));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,9 @@
+package baseUtils.load;
+
+/**
+ * Запись, сделанная сессией: что она видела до правки и что сохранила.
+ * acknowledged — UI подтвердил сохранение (success-тост), т.е. оператор считает правку применённой.
+ */
+public record WriteRecord(int sessionId, String entryId, String valueBefore, String valueAfter,
+                          long savedAtEpochMs, boolean acknowledged) {
+}
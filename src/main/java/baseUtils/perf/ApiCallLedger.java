@@ -0,0 +1,129 @@
+package baseUtils.perf;
+
+import baseUtils.browser.BrowserScripts;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Response;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Учёт XHR/fetch запросов контекста: метод, URL, размер ответа, тайминг и экран (путь страницы),
+ * с которого ушёл запрос. Копится в потоке теста (события Playwright приходят в нём же).
+ *
+ * Дубликат — тот же метод + URL + тело, повторённый в пределах окна после предыдущего такого же:
+ * типичный over-fetch (список грузится дважды после delete, на каждый клик меню и т.п.).
+ */
+public final class ApiCallLedger {
+
+    public record ApiCall(String method, String url, String body, int status, long responseBytes,
+                          long startEpochMs, long durationMs, String screen) {
+
+        String key() {
+            return method + " " + url + (body == null ? "" : " " + body);
+        }
+    }
+
+    private static final ThreadLocal<List<ApiCall>> CALLS = ThreadLocal.withInitial(ArrayList::new);
+
+    private ApiCallLedger() {}
+
+    public static void install(BrowserContext context) {
+        if (!BrowserScripts.markInstalled(context, "api-call-ledger")) return;
+
+        context.onRequestFinished(request -> record(request, false));
+        context.onRequestFailed(request -> record(request, true));
+    }
+
+    public static void reset() {
+        CALLS.remove();
+    }
+
+    public static List<ApiCall> calls() {
+        return List.copyOf(CALLS.get());
+    }
+
+    private static void record(Request request, boolean failed) {
+        String type = request.resourceType();
+        if (!"xhr".equals(type) && !"fetch".equals(type)) return;
+
+        int status = 0;
+        long bytes = 0;
+        try {
+            if (!failed) {
+                Response response = request.response();
+                status = response != null ? response.status() : 0;
+                bytes = Math.max(0, request.sizes().responseBodySize);
+            }
+        } catch (RuntimeException ignored) {
+            // контекст закрывается — запрос учитываем без размера
+        }
+
+        long duration = request.timing().responseEnd >= 0 ? Math.round(request.timing().responseEnd) : 0;
+        CALLS.get().add(new ApiCall(request.method(), request.url(), request.postData(), status, bytes,
+                Math.round(request.timing().startTime), duration, screenOf(request)));
+    }
+
+    private static String screenOf(Request request) {
+        try {
+            return URI.create(request.frame().page().url()).getPath();
+        } catch (RuntimeException e) {
+            return "?";
+        }
+    }
+
+    /** Повторы: каждый вызов, у которого такой же был не раньше windowMs назад. */
+    public static List<ApiCall> duplicates(List<ApiCall> calls, long windowMs) {
+        Map<String, Long> lastSeen = new LinkedHashMap<>();
+        List<ApiCall> duplicates = new ArrayList<>();
+        for (ApiCall call : calls.stream().sorted((a, b) -> Long.compare(a.startEpochMs(), b.startEpochMs())).toList()) {
+            Long previous = lastSeen.put(call.key(), call.startEpochMs());
+            if (previous != null && call.startEpochMs() - previous <= windowMs) {
+                duplicates.add(call);
+            }
+        }
+        return duplicates;
+    }
+
+    /**
+     * Сводка по экранам с путём, начинающимся на screenPrefix (например "/payment/"):
+     * число запросов, байты, дубликаты; ниже — список повторов.
+     */
+    public static String report(List<ApiCall> calls, String screenPrefix, long windowMs) {
+        List<ApiCall> scoped = calls.stream().filter(c -> c.screen().startsWith(screenPrefix)).toList();
+        if (scoped.isEmpty()) return "";
+
+        List<ApiCall> duplicates = duplicates(scoped, windowMs);
+
+        Map<String, long[]> byScreen = new LinkedHashMap<>(); // count, bytes, duplicates
+        for (ApiCall c : scoped) {
+            long[] s = byScreen.computeIfAbsent(c.screen(), k -> new long[3]);
+            s[0]++;
+            s[1] += c.responseBytes();
+        }
+        for (ApiCall d : duplicates) {
+            byScreen.get(d.screen())[2]++;
+        }
+
+        StringBuilder sb = new StringBuilder(String.format("API calls on %s* screens: %d requests, %d KB, %d duplicate(s) within %d ms%n%n",
+                screenPrefix, scoped.size(), scoped.stream().mapToLong(ApiCall::responseBytes).sum() / 1024, duplicates.size(), windowMs));
+        sb.append(String.format("%-45s %8s %10s %10s%n", "screen", "requests", "KB", "duplicates"));
+        byScreen.forEach((screen, s) -> sb.append(String.format("%-45s %8d %10d %10d%n", screen, s[0], s[1] / 1024, s[2])));
+
+        if (!duplicates.isEmpty()) {
+            sb.append(String.format("%nRepeated requests:%n"));
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            for (ApiCall d : duplicates) counts.merge(d.screen() + "  " + d.method() + " " + d.url(), 1, Integer::sum);
+            counts.forEach((k, n) -> sb.append(String.format("  +%d  %s%n", n, k)));
+        }
+        return sb.toString();
+    }
+
+    public static boolean hasDuplicates(List<ApiCall> calls, String screenPrefix, long windowMs) {
+        return !duplicates(calls.stream().filter(c -> c.screen().startsWith(screenPrefix)).toList(), windowMs).isEmpty();
+    }
+}
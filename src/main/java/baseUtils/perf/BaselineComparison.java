@@ -0,0 +1,138 @@
+package baseUtils.perf;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Сравнение замеров текущего прогона с пулом прошлых прогонов.
+ *
+ * Регрессия = "стало медленнее" значимо (p < alpha) И p95 вырос больше minIncreasePercent:
+ * значимость без порога ловит +3% на стабильных шагах, порог без значимости — шум одного медленного замера.
+ *
+ * Значимость: при minSamples+ замеров в текущем прогоне — Манн–Уитни. Рядов с одним-двумя замерами
+ * за прогон (длительность теста, разовые действия) больше: для них — ранг медианы текущего прогона
+ * в распределении baseline, p = (сколько baseline-замеров не быстрее + 1) / (n + 1). Пока baseline
+ * меньше 1/alpha - 1 замеров, такой p меньше alpha не бывает — тогда значимо "медленнее всех baseline-замеров".
+ * minSamples требуется только от baseline.
+ */
+public final class BaselineComparison {
+
+    /** test — "U" (Манн–Уитни) или "rank" (ранг в baseline). */
+    public record Row(String name, int currentN, int baselineN,
+                      double currentMedian, double baselineMedian,
+                      double currentP95, double baselineP95,
+                      String test, double pValue, boolean regression) {
+
+        public double p95ChangePercent() {
+            return baselineP95 > 0 ? (currentP95 - baselineP95) / baselineP95 * 100 : 0;
+        }
+
+        public double medianChangePercent() {
+            return baselineMedian > 0 ? (currentMedian - baselineMedian) / baselineMedian * 100 : 0;
+        }
+    }
+
+    private final List<Row> rows;
+    private final List<String> skipped;
+
+    private BaselineComparison(List<Row> rows, List<String> skipped) {
+        this.rows = rows;
+        this.skipped = skipped;
+    }
+
+    public static BaselineComparison compare(Map<String, List<Long>> current, Map<String, List<Long>> baseline,
+                                             int minSamples, double alpha, double minIncreasePercent) {
+        List<Row> rows = new ArrayList<>();
+        List<String> skipped = new ArrayList<>();
+
+        for (Map.Entry<String, List<Long>> e : current.entrySet()) {
+            List<Long> cur = e.getValue();
+            List<Long> base = baseline.getOrDefault(e.getKey(), List.of());
+            if (cur.isEmpty() || base.size() < minSamples) {
+                skipped.add(String.format("%s (current %d, baseline %d samples)", e.getKey(), cur.size(), base.size()));
+                continue;
+            }
+
+            double[] c = Stats.sorted(cur);
+            double[] b = Stats.sorted(base);
+            double currentMedian = Stats.percentileSorted(c, 50);
+
+            boolean rank = cur.size() < minSamples;
+            double p;
+            boolean significant;
+            if (rank) {
+                p = rankPValue(currentMedian, b);
+                significant = p < alpha || currentMedian > b[b.length - 1];
+            } else {
+                p = MannWhitney.pValueGreater(cur, base);
+                significant = p < alpha;
+            }
+
+            Row row = new Row(e.getKey(), cur.size(), base.size(),
+                    currentMedian, Stats.percentileSorted(b, 50),
+                    Stats.percentileSorted(c, 95), Stats.percentileSorted(b, 95),
+                    rank ? "rank" : "U", p, false);
+            boolean regression = significant && row.p95ChangePercent() > minIncreasePercent;
+            rows.add(regression ? new Row(row.name(), row.currentN(), row.baselineN(), row.currentMedian(), row.baselineMedian(),
+                    row.currentP95(), row.baselineP95(), row.test(), p, true) : row);
+        }
+
+        rows.sort(Comparator.comparing(Row::regression).reversed().thenComparing(Comparator.comparingDouble(Row::p95ChangePercent).reversed()));
+        return new BaselineComparison(rows, skipped);
+    }
+
+    /** Доля baseline-замеров, которые не быстрее value (с поправкой +1, чтобы p не был нулём). */
+    static double rankPValue(double value, double[] sortedBaseline) {
+        int notFaster = 0;
+        for (double b : sortedBaseline) {
+            if (b >= value) notFaster++;
+        }
+        return (notFaster + 1.0) / (sortedBaseline.length + 1);
+    }
+
+    public List<Row> rows() {
+        return rows;
+    }
+
+    public List<Row> regressions() {
+        return rows.stream().filter(Row::regression).toList();
+    }
+
+    /** Короткие строки вида "menu.clickPaymentDictionary p95 +40% (p=0.003)". */
+    public List<String> regressionSummary() {
+        return regressions().stream()
+                .map(r -> String.format("%s p95 %+.0f%% (%.0f -> %.0f ms, p=%.3f)",
+                        r.name(), r.p95ChangePercent(), r.baselineP95(), r.currentP95(), r.pValue()))
+                .toList();
+    }
+
+    public String toText(int baselineRuns) {
+        StringBuilder sb = new StringBuilder(String.format("Baseline comparison against %d previous run(s)%n", baselineRuns));
+
+        List<String> summary = regressionSummary();
+        if (summary.isEmpty()) {
+            sb.append(String.format("No significant regressions.%n"));
+        } else {
+            sb.append(String.format("REGRESSIONS:%n"));
+            summary.forEach(s -> sb.append("  ").append(s).append(System.lineSeparator()));
+        }
+
+        sb.append(String.format("%n%-50s %5s %5s %9s %9s %8s %9s %9s %8s %4s %7s%n",
+                "name", "n", "base", "median", "base", "change", "p95", "base", "change", "test", "p"));
+        for (Row r : rows) {
+            sb.append(String.format("%-50s %5d %5d %9.0f %9.0f %+7.0f%% %9.0f %9.0f %+7.0f%% %4s %7.3f%s%n",
+                    r.name(), r.currentN(), r.baselineN(),
+                    r.currentMedian(), r.baselineMedian(), r.medianChangePercent(),
+                    r.currentP95(), r.baselineP95(), r.p95ChangePercent(),
+                    r.test(), r.pValue(), r.regression() ? "  <--" : ""));
+        }
+
+        if (!skipped.isEmpty()) {
+            sb.append(String.format("%nNot compared (too few baseline samples):%n"));
+            skipped.forEach(s -> sb.append("  ").append(s).append(System.lineSeparator()));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,107 @@
+package baseUtils.perf;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Итог бенчмарка списка на разных объёмах данных: замеры по каждому размеру и показатель роста
+ * по каждой метрике — наклон в log-log (time ~ size^k). k около 0 — от объёма не зависит (серверная
+ * пагинация работает), k < SUBLINEAR_MAX — сублинейно, дальше — линейно и хуже: нужна виртуальная
+ * прокрутка или пагинация на сервере.
+ */
+public final class DatasetScalingReport {
+
+    public static final double SUBLINEAR_MAX = 0.8;
+
+    /**
+     * Один размер датасета. size — сколько записей засижено к моменту замера,
+     * rows — сколько строк реально в DOM после максимального размера страницы.
+     */
+    public record DatasetRun(int size, PageLoadTiming load, String pageSize, long pageSizeMs, int rows,
+                             ScrollProbe.ScrollTiming scroll, long nextPageMs, long peakHeapBytes) {}
+
+    public record Growth(String metric, double exponent, double r2) {
+
+        public boolean sublinear() {
+            return exponent < SUBLINEAR_MAX;
+        }
+    }
+
+    private final String title;
+    private final List<DatasetRun> runs;
+    private final List<Growth> growth;
+
+    public DatasetScalingReport(String title, List<DatasetRun> runs) {
+        this.title = title;
+        this.runs = runs.stream().sorted(Comparator.comparingInt(DatasetRun::size)).toList();
+
+        this.growth = List.of(
+                growth("list load (last row)", r -> r.load().lastRowMs()),
+                growth("max page size", r -> r.pageSizeMs()),
+                growth("scroll to end", r -> r.scroll().totalMs()),
+                growth("next page", r -> r.nextPageMs()),
+                growth("peak JS heap", r -> r.peakHeapBytes())
+        );
+    }
+
+    public List<Growth> growth() {
+        return growth;
+    }
+
+    /** Хоть одна метрика растёт линейно или быстрее. */
+    public boolean needsVirtualization() {
+        return growth.stream().anyMatch(g -> !Double.isNaN(g.exponent()) && !g.sublinear());
+    }
+
+    // точки с нулевым/ненаблюдённым значением в логарифм не берём
+    private Growth growth(String metric, ToDoubleFunction<DatasetRun> value) {
+        List<Double> xs = new ArrayList<>();
+        List<Double> ys = new ArrayList<>();
+        for (DatasetRun r : runs) {
+            double y = value.applyAsDouble(r);
+            if (r.size() <= 0 || y <= 0) continue;
+            xs.add(Math.log(r.size()));
+            ys.add(Math.log(y));
+        }
+        if (xs.size() < 2) return new Growth(metric, Double.NaN, 0);
+
+        LinearTrend trend = LinearTrend.fit(xs, ys);
+        return new Growth(metric, trend.slope(), trend.r2());
+    }
+
+    public String toText() {
+        StringBuilder sb = new StringBuilder(title).append(": ")
+                .append(runs.size()).append(" dataset sizes")
+                .append(runs.size() < 2 ? "" : needsVirtualization()
+                        ? " — LINEAR OR WORSE GROWTH, consider virtual scrolling / server paging"
+                        : " — sub-linear")
+                .append(String.format("%n%n"));
+
+        sb.append(String.format("%8s %10s %10s %9s %9s %7s %10s %10s %10s %10s  %s%n",
+                "size", "data ms", "last row", "page size", "size ms", "rows", "scroll ms", "frame p95", "next ms", "heap MB", "slowest phase"));
+        for (DatasetRun r : runs) {
+            sb.append(String.format("%8d %10s %10s %9s %9d %7d %10.0f %10.0f %10d %10.1f  %s%n",
+                    r.size(), fmt(r.load().firstDataResponseMs()), fmt(r.load().lastRowMs()),
+                    r.pageSize(), r.pageSizeMs(), r.rows(),
+                    r.scroll().totalMs(), r.scroll().p95FrameMs(), r.nextPageMs(),
+                    r.peakHeapBytes() / 1024.0 / 1024.0, r.load().slowestPhase()));
+        }
+
+        sb.append(String.format("%n%-22s %9s %6s%n", "metric", "size^k", "r2"));
+        for (Growth g : growth) {
+            if (Double.isNaN(g.exponent())) {
+                sb.append(String.format("%-22s %9s %6s%n", g.metric(), "-", "-"));
+                continue;
+            }
+            sb.append(String.format("%-22s %9.2f %6.2f%s%n", g.metric(), g.exponent(), g.r2(),
+                    g.sublinear() ? "" : "  <-- grows with dataset"));
+        }
+        return sb.toString();
+    }
+
+    private static String fmt(double ms) {
+        return ms < 0 ? "-" : String.format("%.0f", ms);
+    }
+}
@@ -0,0 +1,80 @@
+package baseUtils.perf;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Замеры флоу в разрезе "вариантов" (профиль сети, CPU slowdown и т.п.) + сравнительная таблица.
+ * Порядок вариантов и флоу — порядок первой записи.
+ */
+public class FlowTimings {
+
+    private final String title;
+    private final Map<String, Map<String, List<Long>>> byVariant = new LinkedHashMap<>();
+
+    public FlowTimings(String title) {
+        this.title = title;
+    }
+
+    public void time(String variant, String flow, Runnable step) {
+        time(variant, flow, () -> {
+            step.run();
+            return null;
+        });
+    }
+
+    public <T> T time(String variant, String flow, Supplier<T> step) {
+        long startNs = System.nanoTime();
+        T result = step.get();
+        record(variant, flow, (System.nanoTime() - startNs) / 1_000_000);
+        return result;
+    }
+
+    public synchronized void record(String variant, String flow, long durationMs) {
+        byVariant.computeIfAbsent(variant, k -> new LinkedHashMap<>())
+                .computeIfAbsent(flow, k -> new ArrayList<>())
+                .add(durationMs);
+    }
+
+    public synchronized List<Long> samples(String variant, String flow) {
+        return List.copyOf(byVariant.getOrDefault(variant, Map.of()).getOrDefault(flow, List.of()));
+    }
+
+    /**
+     * Таблица: строки — флоу, колонки — варианты (медиана мс), плюс рост относительно первого варианта.
+     */
+    public synchronized String toText() {
+        Set<String> flows = new LinkedHashSet<>();
+        byVariant.values().forEach(m -> flows.addAll(m.keySet()));
+
+        List<String> variants = new ArrayList<>(byVariant.keySet());
+        String baseVariant = variants.isEmpty() ? null : variants.get(0);
+
+        StringBuilder sb = new StringBuilder(title).append(" (median ms, x vs ").append(baseVariant).append(")\n\n");
+        sb.append(String.format("%-36s", "flow"));
+        for (String v : variants) sb.append(String.format(" %18s", v));
+        sb.append('\n');
+
+        for (String flow : flows) {
+            sb.append(String.format("%-36s", flow));
+            double base = Stats.percentile(samples(baseVariant, flow), 50);
+            for (String v : variants) {
+                List<Long> s = samples(v, flow);
+                if (s.isEmpty()) {
+                    sb.append(String.format(" %18s", "-"));
+                    continue;
+                }
+                double median = Stats.percentile(s, 50);
+                String ratio = base > 0 && !v.equals(baseVariant) ? String.format(" (x%.1f)", median / base) : "";
+                sb.append(String.format(" %18s", String.format("%.0f%s", median, ratio)));
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+}
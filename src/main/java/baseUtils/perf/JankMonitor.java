@@ -0,0 +1,148 @@
+package baseUtils.perf;
+
+import baseUtils.browser.BrowserScripts;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Детектор подвисаний main thread'а (Angular): PerformanceObserver на longtask и event timing
+ * в каждой странице контекста. Записи отправляются в Java через exposeBinding и привязываются
+ * к действию page-object'а из PerfTimeline, которое выполнялось в этот момент.
+ *
+ * Observer доставляет записи пачками, не сразу: то, что ещё в буфере, при context.close() теряется.
+ * Поэтому перед закрытием контекста — flush() (JankReportExtension делает это после тела теста).
+ */
+public final class JankMonitor {
+
+    public record JankEntry(String type, String name, long epochStartMs, long durationMs) {}
+
+    private static final String BINDING = "__arcaReportJank";
+
+    private static final String SCRIPT = """
+            (() => {
+              if (window.__arcaJankInstalled || typeof PerformanceObserver === 'undefined') return;
+              window.__arcaJankInstalled = true;
+              const send = (list) => {
+                const entries = list.map((e) => ({
+                  type: e.entryType,
+                  name: e.name || '',
+                  epochStart: performance.timeOrigin + e.startTime,
+                  duration: e.duration
+                }));
+                if (!entries.length || typeof window.__arcaReportJank !== 'function') return Promise.resolve();
+                return window.__arcaReportJank(entries).catch(() => {});
+              };
+              const observers = [];
+              const observe = (options) => {
+                try {
+                  const o = new PerformanceObserver((list) => { send(list.getEntries()); });
+                  o.observe(options);
+                  observers.push(o);
+                } catch (e) {}
+              };
+              observe({ type: 'longtask', buffered: true });
+              observe({ type: 'event', durationThreshold: 16, buffered: true });
+              // забрать то, что observer ещё не доставил, и дождаться binding'а
+              window.__arcaJankFlush = () => Promise.all(observers.map((o) => send(o.takeRecords())));
+            })();
+            """;
+
+    private static final String FLUSH = "() => window.__arcaJankFlush ? window.__arcaJankFlush() : null";
+
+    private static final ThreadLocal<List<JankEntry>> ENTRIES = ThreadLocal.withInitial(ArrayList::new);
+    private static final ThreadLocal<List<BrowserContext>> CONTEXTS = ThreadLocal.withInitial(ArrayList::new);
+
+    private JankMonitor() {}
+
+    /**
+     * Подключить к контексту (до открытия страниц или сразу после — уже открытые тоже покрываются).
+     * Записи копятся в потоке, который работает с этим контекстом (поток теста).
+     */
+    public static void install(BrowserContext context) {
+        if (BrowserScripts.markInstalled(context, "jank-binding")) {
+            context.exposeBinding(BINDING, (source, args) -> {
+                if (args.length > 0 && args[0] instanceof List<?> list) {
+                    for (Object o : list) {
+                        if (o instanceof Map<?, ?> m) {
+                            ENTRIES.get().add(new JankEntry(
+                                    String.valueOf(m.get("type")),
+                                    String.valueOf(m.get("name")),
+                                    Math.round(((Number) m.get("epochStart")).doubleValue()),
+                                    Math.round(((Number) m.get("duration")).doubleValue())
+                            ));
+                        }
+                    }
+                }
+                return null;
+            });
+        }
+        BrowserScripts.installOnContext(context, "jank-observer", SCRIPT);
+        if (!CONTEXTS.get().contains(context)) CONTEXTS.get().add(context);
+    }
+
+    /**
+     * Дослать буферизованные записи со всех открытых страниц подключенных контекстов.
+     * Вызывать до context.close(); закрытые страницы/контексты пропускаются.
+     */
+    public static void flush() {
+        for (BrowserContext context : CONTEXTS.get()) {
+            try {
+                for (Page page : context.pages()) {
+                    if (!page.isClosed()) page.evaluate(FLUSH);
+                }
+            } catch (RuntimeException ignored) {
+                // контекст уже закрыт или страница ушла в навигацию — досылать нечего
+            }
+        }
+    }
+
+    public static void reset() {
+        ENTRIES.remove();
+        CONTEXTS.remove();
+    }
+
+    public static List<JankEntry> entries() {
+        return List.copyOf(ENTRIES.get());
+    }
+
+    /**
+     * Отчёт: подвисания >= thresholdMs, сгруппированные по действию page-object'а.
+     * Пустая строка — подвисаний не было.
+     */
+    public static String report(List<PerfTimeline.TimedAction> actions, long thresholdMs) {
+        Map<String, List<JankEntry>> byAction = new LinkedHashMap<>();
+        for (JankEntry e : entries()) {
+            if (e.durationMs() < thresholdMs) continue;
+            byAction.computeIfAbsent(attribute(e, actions), k -> new ArrayList<>()).add(e);
+        }
+        if (byAction.isEmpty()) return "";
+
+        StringBuilder sb = new StringBuilder(String.format("Main-thread stalls >= %d ms:%n", thresholdMs));
+        for (Map.Entry<String, List<JankEntry>> e : byAction.entrySet()) {
+            long total = e.getValue().stream().mapToLong(JankEntry::durationMs).sum();
+            long max = e.getValue().stream().mapToLong(JankEntry::durationMs).max().orElse(0);
+
+            sb.append(String.format("  %-40s %3d stalls, %6d ms total, max %5d ms%n", e.getKey(), e.getValue().size(), total, max));
+            for (JankEntry j : e.getValue()) {
+                sb.append(String.format("      %-9s %-14s %5d ms%n", j.type(), j.name(), j.durationMs()));
+            }
+        }
+        return sb.toString();
+    }
+
+    /** Действие, во время которого началась запись (последнее из подходящих — самое вложенное). */
+    private static String attribute(JankEntry entry, List<PerfTimeline.TimedAction> actions) {
+        String match = "(outside page-object actions)";
+        for (PerfTimeline.TimedAction a : actions) {
+            if (entry.epochStartMs() >= a.startEpochMs() && entry.epochStartMs() <= a.startEpochMs() + a.durationMs()) {
+                match = a.name();
+            }
+        }
+        return match;
+    }
+}
@@ -0,0 +1,41 @@
+package baseUtils.perf;
+
+import java.util.List;
+
+/**
+ * Линейная регрессия y = intercept + slope * x (МНК). r2 — насколько рост "ровный":
+ * у утечки он близок к 1, у шума около 0.
+ */
+public record LinearTrend(double slope, double intercept, double r2) {
+
+    public static LinearTrend fit(List<? extends Number> xs, List<? extends Number> ys) {
+        int n = Math.min(xs.size(), ys.size());
+        if (n < 2) return new LinearTrend(0, n == 1 ? ys.get(0).doubleValue() : 0, 0);
+
+        double mx = 0, my = 0;
+        for (int i = 0; i < n; i++) {
+            mx += xs.get(i).doubleValue();
+            my += ys.get(i).doubleValue();
+        }
+        mx /= n;
+        my /= n;
+
+        double sxy = 0, sxx = 0, syy = 0;
+        for (int i = 0; i < n; i++) {
+            double dx = xs.get(i).doubleValue() - mx;
+            double dy = ys.get(i).doubleValue() - my;
+            sxy += dx * dy;
+            sxx += dx * dx;
+            syy += dy * dy;
+        }
+        if (sxx == 0) return new LinearTrend(0, my, 0);
+
+        double slope = sxy / sxx;
+        double r2 = syy == 0 ? 0 : (sxy * sxy) / (sxx * syy);
+        return new LinearTrend(slope, my - slope * mx, r2);
+    }
+
+    public double at(double x) {
+        return intercept + slope * x;
+    }
+}
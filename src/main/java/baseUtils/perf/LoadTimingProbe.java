@@ -0,0 +1,143 @@
+package baseUtils.perf;
+
+import baseUtils.browser.BrowserScripts;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Браузерная проба фаз загрузки списков (см. PageLoadTiming).
+ *
+ * Начало навигации — клик по ссылке сайдбара (ловим capture-листенером, без лишнего round trip'а),
+ * commit — pushState/replaceState/popstate роутера, данные — Resource Timing XHR/fetch,
+ * строки — MutationObserver по "table tbody tr" (строки старой страницы на момент commit не считаются).
+ */
+public final class LoadTimingProbe {
+
+    private static final String SCRIPT = """
+            (() => {
+              if (window.__arcaLoad) return;
+              const probe = window.__arcaLoad = {
+                navStart: null, commit: null, firstRow: null, lastRow: null, rows: 0,
+                stale: new WeakSet(), lastMutation: performance.now()
+              };
+              try { performance.setResourceTimingBufferSize(10000); } catch (e) {}
+
+              const startNav = (t) => {
+                probe.navStart = t; probe.commit = null; probe.firstRow = null; probe.lastRow = null; probe.rows = 0;
+              };
+              const onCommit = () => {
+                const now = performance.now();
+                if (probe.navStart === null) startNav(now);
+                if (probe.commit === null) probe.commit = now;
+                probe.firstRow = null; probe.lastRow = null; probe.rows = 0;
+                probe.stale = new WeakSet(document.querySelectorAll('table tbody tr'));
+              };
+
+              document.addEventListener('click', (e) => {
+                const link = e.target && e.target.closest && e.target.closest('aside.sidebar-nav a[href]');
+                if (link) startNav(performance.now());
+              }, true);
+
+              for (const name of ['pushState', 'replaceState']) {
+                const original = history[name];
+                history[name] = function (...args) {
+                  const result = original.apply(this, args);
+                  onCommit();
+                  return result;
+                };
+              }
+              window.addEventListener('popstate', onCommit);
+
+              const onMutation = () => {
+                const now = performance.now();
+                probe.lastMutation = now;
+                let fresh = 0;
+                for (const row of document.querySelectorAll('table tbody tr')) {
+                  if (!probe.stale.has(row)) fresh++;
+                }
+                if (fresh > 0 && probe.firstRow === null) probe.firstRow = now;
+                if (fresh !== probe.rows) { probe.rows = fresh; probe.lastRow = now; }
+              };
+              const start = () => new MutationObserver(onMutation)
+                .observe(document.documentElement, { childList: true, subtree: true });
+              if (document.documentElement) start(); else document.addEventListener('DOMContentLoaded', start);
+            })();
+            """;
+
+    private static final String COLLECT_SCRIPT = """
+            ([quietMs, timeoutMs]) => new Promise((resolve) => {
+              const probe = window.__arcaLoad;
+              const deadline = performance.now() + timeoutMs;
+              const firstData = (from) => {
+                let best = null;
+                for (const e of performance.getEntriesByType('resource')) {
+                  if ((e.initiatorType === 'xmlhttprequest' || e.initiatorType === 'fetch') && e.startTime >= from) {
+                    if (best === null || e.responseEnd < best) best = e.responseEnd;
+                  }
+                }
+                return best;
+              };
+              const collect = () => {
+                if (!probe) return null;
+                let navStart = probe.navStart, commit = probe.commit;
+                if (navStart === null) {
+                  // SPA-навигации не было: считаем от загрузки документа
+                  const nav = performance.getEntriesByType('navigation')[0];
+                  navStart = 0;
+                  commit = nav ? nav.responseStart : null;
+                }
+                const data = firstData(navStart);
+                const rel = (t) => t === null ? -1 : Math.max(0, t - navStart);
+                return { commit: rel(commit), data: rel(data), firstRow: rel(probe.firstRow), lastRow: rel(probe.lastRow), rows: probe.rows, hasData: data !== null };
+              };
+              const tick = () => {
+                const r = collect();
+                const now = performance.now();
+                const settled = r && (r.rows > 0 || r.hasData) && now - probe.lastMutation >= quietMs;
+                if (!r || settled || now > deadline) { resolve(r); return; }
+                setTimeout(tick, 50);
+              };
+              tick();
+            })
+            """;
+
+    private LoadTimingProbe() {}
+
+    /**
+     * Проба ставится только там, где фазы нужны (замеры, краулер): page-object'ы её не ставят,
+     * функциональные тесты за неё не платят.
+     */
+    public static void install(Page page) {
+        BrowserScripts.installOnPage(page, "load-timing", SCRIPT);
+    }
+
+    public static void install(BrowserContext context) {
+        BrowserScripts.installOnContext(context, "load-timing", SCRIPT);
+    }
+
+    /**
+     * Дождаться, пока строки перестанут меняться (quietMs), и вернуть фазы.
+     * По таймауту не падает — возвращает то, что успели увидеть. Проба не установлена (нет install
+     * до навигации) — IllegalStateException, а не пустые фазы, которые отчёты молча выкинут.
+     */
+    public static PageLoadTiming collect(Page page, String route, long quietMs, long timeoutMs) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> r = (Map<String, Object>) page.evaluate(COLLECT_SCRIPT, List.of(quietMs, timeoutMs));
+        if (r == null) {
+            throw new IllegalStateException("LoadTimingProbe is not installed on " + page.url()
+                    + " (" + route + "): call LoadTimingProbe.install(context) before navigation");
+        }
+
+        return new PageLoadTiming(
+                route,
+                ((Number) r.get("commit")).doubleValue(),
+                ((Number) r.get("data")).doubleValue(),
+                ((Number) r.get("firstRow")).doubleValue(),
+                ((Number) r.get("lastRow")).doubleValue(),
+                ((Number) r.get("rows")).intValue()
+        );
+    }
+}
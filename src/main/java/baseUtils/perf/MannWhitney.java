@@ -0,0 +1,59 @@
+package baseUtils.perf;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Односторонний U-критерий Манна–Уитни: "current систематически больше baseline".
+ * Непараметрический — замеры времени не нормальные (длинный хвост), поэтому не t-test.
+ * p-value по нормальной аппроксимации с поправкой на связи и непрерывность (ок от ~5 замеров в группе).
+ */
+public final class MannWhitney {
+
+    private MannWhitney() {}
+
+    public static double pValueGreater(Collection<? extends Number> current, Collection<? extends Number> baseline) {
+        int n1 = current.size();
+        int n2 = baseline.size();
+        if (n1 == 0 || n2 == 0) return 1;
+
+        double[][] all = new double[n1 + n2][];
+        int i = 0;
+        for (Number x : current) all[i++] = new double[]{x.doubleValue(), 1};
+        for (Number x : baseline) all[i++] = new double[]{x.doubleValue(), 0};
+        Arrays.sort(all, (a, b) -> Double.compare(a[0], b[0]));
+
+        // ранги со средним для одинаковых значений
+        int n = n1 + n2;
+        double rankSumCurrent = 0;
+        double tieCorrection = 0;
+        for (int start = 0; start < n; ) {
+            int end = start;
+            while (end + 1 < n && all[end + 1][0] == all[start][0]) end++;
+
+            double rank = (start + end) / 2.0 + 1;
+            for (int k = start; k <= end; k++) {
+                if (all[k][1] == 1) rankSumCurrent += rank;
+            }
+            int t = end - start + 1;
+            tieCorrection += (double) t * t * t - t;
+            start = end + 1;
+        }
+
+        double u = rankSumCurrent - n1 * (n1 + 1) / 2.0;
+        double mean = n1 * (double) n2 / 2.0;
+        double variance = n1 * (double) n2 / 12.0 * ((n + 1) - tieCorrection / ((double) n * (n - 1)));
+        if (variance <= 0) return 1;
+
+        double z = (u - mean - 0.5) / Math.sqrt(variance);
+        return 1 - normalCdf(z);
+    }
+
+    /** Φ(z) через erf (Abramowitz–Stegun 7.1.26, погрешность ~1e-7). */
+    static double normalCdf(double z) {
+        double x = Math.abs(z) / Math.sqrt(2);
+        double t = 1 / (1 + 0.3275911 * x);
+        double erf = 1 - (((((1.061405429 * t - 1.453152027) * t) + 1.421413741) * t - 0.284496736) * t + 0.254829592) * t * Math.exp(-x * x);
+        return z >= 0 ? (1 + erf) / 2 : (1 - erf) / 2;
+    }
+}
@@ -0,0 +1,86 @@
+package baseUtils.perf;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Page;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * Память страницы через CDP (только Chromium): Performance.getMetrics и heap snapshot.
+ */
+public final class MemorySampler {
+
+    /** Один замер: куча JS (байты), DOM-узлы, JS event listener'ы. */
+    public record MemorySample(int cycle, long elapsedMs, long jsHeapUsedBytes, long nodes, long listeners) {}
+
+    private final CDPSession cdp;
+    private final long startedAt = System.currentTimeMillis();
+
+    public MemorySampler(Page page) {
+        this.cdp = page.context().newCDPSession(page);
+        cdp.send("Performance.enable");
+    }
+
+    /**
+     * gc=true — перед замером принудительный сбор мусора, иначе куча "пилит" и тренд шумный.
+     */
+    public MemorySample sample(int cycle, boolean gc) {
+        if (gc) {
+            cdp.send("HeapProfiler.collectGarbage");
+        }
+
+        long heap = 0, nodes = 0, listeners = 0;
+        JsonObject result = cdp.send("Performance.getMetrics");
+        for (JsonElement e : result.getAsJsonArray("metrics")) {
+            JsonObject m = e.getAsJsonObject();
+            long value = m.get("value").getAsLong();
+            switch (m.get("name").getAsString()) {
+                case "JSHeapUsedSize" -> heap = value;
+                case "Nodes" -> nodes = value;
+                case "JSEventListeners" -> listeners = value;
+                default -> { }
+            }
+        }
+        return new MemorySample(cycle, System.currentTimeMillis() - startedAt, heap, nodes, listeners);
+    }
+
+    /**
+     * Снять heap snapshot в файл (.heapsnapshot открывается в DevTools -> Memory).
+     * Чанки приходят событиями, пока ждём ответ на takeHeapSnapshot.
+     */
+    public Path writeHeapSnapshot(Path file) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                cdp.send("HeapProfiler.enable");
+                // листенер пишет в out — снимаем его до закрытия файла, иначе следующий снапшот упадёт
+                Consumer<JsonObject> onChunk = event -> {
+                    try {
+                        out.write(event.get("chunk").getAsString());
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                };
+                cdp.on("HeapProfiler.addHeapSnapshotChunk", onChunk);
+                try {
+                    JsonObject params = new JsonObject();
+                    params.addProperty("reportProgress", false);
+                    cdp.send("HeapProfiler.takeHeapSnapshot", params);
+                } finally {
+                    cdp.off("HeapProfiler.addHeapSnapshotChunk", onChunk);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write heap snapshot " + file, e);
+        }
+        return file;
+    }
+}
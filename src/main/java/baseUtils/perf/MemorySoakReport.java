@@ -0,0 +1,76 @@
+package baseUtils.perf;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Итог soak-прогона: тренд по каждой метрике и вердикт "похоже на утечку".
+ *
+ * Утечка = устойчивый рост: r2 >= minR2 и прирост по тренду за прогон > minGrowthPercent
+ * от начального значения. Первые warmupCycles не учитываются (кэши, ленивые модули).
+ */
+public final class MemorySoakReport {
+
+    public record MetricTrend(String metric, LinearTrend trend, double first, double last, double growthPercent, boolean leaking) {}
+
+    private final List<MemorySampler.MemorySample> samples;
+    private final List<MetricTrend> trends;
+
+    public MemorySoakReport(List<MemorySampler.MemorySample> samples, int warmupCycles, double minR2, double minGrowthPercent) {
+        this.samples = List.copyOf(samples);
+        List<MemorySampler.MemorySample> measured = samples.size() > warmupCycles + 1
+                ? samples.subList(warmupCycles, samples.size())
+                : samples;
+
+        this.trends = List.of(
+                trend("JSHeapUsedSize", measured, MemorySampler.MemorySample::jsHeapUsedBytes, minR2, minGrowthPercent),
+                trend("Nodes", measured, MemorySampler.MemorySample::nodes, minR2, minGrowthPercent),
+                trend("JSEventListeners", measured, MemorySampler.MemorySample::listeners, minR2, minGrowthPercent)
+        );
+    }
+
+    public List<MetricTrend> trends() {
+        return trends;
+    }
+
+    public boolean leakSuspected() {
+        return trends.stream().anyMatch(MetricTrend::leaking);
+    }
+
+    private static MetricTrend trend(String name, List<MemorySampler.MemorySample> samples,
+                                     ToLongFunction<MemorySampler.MemorySample> metric,
+                                     double minR2, double minGrowthPercent) {
+        List<Integer> xs = samples.stream().map(MemorySampler.MemorySample::cycle).toList();
+        List<Long> ys = samples.stream().map(metric::applyAsLong).toList();
+        LinearTrend trend = LinearTrend.fit(xs, ys);
+
+        if (xs.isEmpty()) return new MetricTrend(name, trend, 0, 0, 0, false);
+
+        double first = trend.at(xs.get(0));
+        double last = trend.at(xs.get(xs.size() - 1));
+        double growth = first > 0 ? (last - first) / first * 100 : 0;
+        boolean leaking = trend.slope() > 0 && trend.r2() >= minR2 && growth > minGrowthPercent;
+        return new MetricTrend(name, trend, first, last, growth, leaking);
+    }
+
+    public String toText() {
+        StringBuilder sb = new StringBuilder("Memory soak: ")
+                .append(samples.size()).append(" samples")
+                .append(leakSuspected() ? " — SUSTAINED GROWTH SUSPECTED" : " — no sustained growth")
+                .append(String.format("%n%n"));
+
+        sb.append(String.format("%-18s %14s %14s %9s %14s %6s%n", "metric", "start (fit)", "end (fit)", "growth", "slope/cycle", "r2"));
+        for (MetricTrend t : trends) {
+            sb.append(String.format("%-18s %14.0f %14.0f %8.1f%% %14.1f %6.2f%s%n",
+                    t.metric(), t.first(), t.last(), t.growthPercent(), t.trend().slope(), t.trend().r2(),
+                    t.leaking() ? "  <-- LEAK?" : ""));
+        }
+
+        sb.append(String.format("%n%6s %10s %14s %8s %10s%n", "cycle", "elapsed", "heapUsed", "nodes", "listeners"));
+        for (MemorySampler.MemorySample s : samples) {
+            sb.append(String.format("%6d %9ds %14d %8d %10d%n",
+                    s.cycle(), s.elapsedMs() / 1000, s.jsHeapUsedBytes(), s.nodes(), s.listeners()));
+        }
+        return sb.toString();
+    }
+}
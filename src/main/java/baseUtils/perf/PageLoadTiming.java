@@ -0,0 +1,43 @@
+package baseUtils.perf;
+
+/**
+ * Фазы загрузки списка по браузерным таймстемпам, мс от начала навигации
+ * (клик по вкладке сайдбара или старт загрузки документа). -1 — фаза не наблюдалась.
+ *
+ * navigationCommitMs  — роутер сменил URL (pushState) / пришёл ответ на документ;
+ * firstDataResponseMs — первый XHR/fetch ответ после начала навигации;
+ * firstRowMs          — в таблице появилась первая новая строка;
+ * lastRowMs           — последнее изменение строк таблицы (таблица дорисована).
+ */
+public record PageLoadTiming(String route, double navigationCommitMs, double firstDataResponseMs,
+                             double firstRowMs, double lastRowMs, int rows) {
+
+    public static final double NOT_OBSERVED = -1;
+
+    /**
+     * Самая длинная фаза — на неё и смотреть, если страница медленная.
+     */
+    public String slowestPhase() {
+        double commit = Math.max(0, navigationCommitMs);
+        double data = firstDataResponseMs >= 0 ? firstDataResponseMs - commit : NOT_OBSERVED;
+        double firstRow = firstRowMs >= 0 ? firstRowMs - Math.max(commit, firstDataResponseMs) : NOT_OBSERVED;
+        double lastRow = lastRowMs >= 0 && firstRowMs >= 0 ? lastRowMs - firstRowMs : NOT_OBSERVED;
+
+        String phase = "navigation commit";
+        double max = commit;
+        if (data > max) { max = data; phase = "data API response"; }
+        if (firstRow > max) { max = firstRow; phase = "first row render"; }
+        if (lastRow > max) { phase = "rows render"; }
+        return phase;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: commit=%s, firstData=%s, firstRow=%s, lastRow=%s, rows=%d (slowest: %s)",
+                route, fmt(navigationCommitMs), fmt(firstDataResponseMs), fmt(firstRowMs), fmt(lastRowMs), rows, slowestPhase());
+    }
+
+    private static String fmt(double ms) {
+        return ms < 0 ? "-" : String.format("%.0fms", ms);
+    }
+}
@@ -0,0 +1,98 @@
+package baseUtils.perf;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * История замеров прогонов: один JSON-файл на прогон (имя -> список мс) в -DperfHistoryDir
+ * (по умолчанию perf-history — вне target, чтобы переживал mvn clean; на CI — кэшировать папку).
+ */
+public final class PerfHistory {
+
+    public record Run(String runId, long startedAtEpochMs, Map<String, List<Long>> samples) {}
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final String PREFIX = "run-";
+
+    private final Path dir;
+
+    public PerfHistory(Path dir) {
+        this.dir = dir;
+    }
+
+    public static PerfHistory fromSystemProperty() {
+        return new PerfHistory(Paths.get(System.getProperty("perfHistoryDir", "perf-history")));
+    }
+
+    public Path dir() {
+        return dir;
+    }
+
+    /** Последние maxRuns прогонов, от старых к новым. Битые файлы пропускаются. */
+    public List<Run> lastRuns(int maxRuns) {
+        List<Path> files = runFiles();
+        List<Run> runs = new ArrayList<>();
+        for (Path file : files.subList(Math.max(0, files.size() - maxRuns), files.size())) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                Run run = GSON.fromJson(reader, Run.class);
+                if (run != null && run.samples() != null) runs.add(run);
+            } catch (IOException | RuntimeException ignored) {
+                // недописанный файл упавшего прогона — не повод ронять сравнение
+            }
+        }
+        return runs;
+    }
+
+    /** Все замеры из runs по имени, одним пулом. */
+    public static Map<String, List<Long>> pool(List<Run> runs) {
+        Map<String, List<Long>> pooled = new LinkedHashMap<>();
+        for (Run run : runs) {
+            run.samples().forEach((name, values) -> pooled.computeIfAbsent(name, k -> new ArrayList<>()).addAll(values));
+        }
+        return pooled;
+    }
+
+    /** Сохранить прогон и оставить только keepRuns последних файлов. */
+    public Path save(Run run, int keepRuns) {
+        Path file = dir.resolve(PREFIX + run.runId() + ".json");
+        try {
+            Files.createDirectories(dir);
+            Files.writeString(file, GSON.toJson(run), StandardCharsets.UTF_8);
+
+            List<Path> files = runFiles();
+            for (Path old : files.subList(0, Math.max(0, files.size() - keepRuns))) {
+                Files.deleteIfExists(old);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot save perf history " + file, e);
+        }
+        return file;
+    }
+
+    // runId начинается с таймстемпа — сортировка по имени = по времени
+    private List<Path> runFiles() {
+        if (!Files.isDirectory(dir)) return List.of();
+        try (Stream<Path> files = Files.list(dir)) {
+            return files
+                    .filter(p -> p.getFileName().toString().startsWith(PREFIX) && p.getFileName().toString().endsWith(".json"))
+                    .sorted(Comparator.comparing(p -> p.getFileName().toString()))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list perf history " + dir, e);
+        }
+    }
+}
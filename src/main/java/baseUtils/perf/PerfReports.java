@@ -0,0 +1,48 @@
+package baseUtils.perf;
+
+import io.qameta.allure.Allure;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Куда складываются перф-отчёты: файл в target/perf (или -DperfReportDir) + вложение в Allure.
+ */
+public final class PerfReports {
+
+    private PerfReports() {}
+
+    public static Path reportDir() {
+        return Paths.get(System.getProperty("perfReportDir", "target/perf"));
+    }
+
+    /**
+     * Записать текстовый отчёт и приложить его к текущему тесту в Allure.
+     * Вне теста Allure просто проигнорирует вложение — файл всё равно останется.
+     */
+    public static Path write(String fileName, String content) {
+        Path file = reportDir().resolve(fileName);
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, content, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write perf report " + file, e);
+        }
+
+        try {
+            Allure.addAttachment(fileName, "text/plain", content, fileExtension(fileName));
+        } catch (Exception ignored) {
+            // отчёт на диске важнее вложения
+        }
+        return file;
+    }
+
+    private static String fileExtension(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot >= 0 ? fileName.substring(dot) : ".txt";
+    }
+}
@@ -0,0 +1,82 @@
+package baseUtils.perf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Журнал замеров page-object'ов текущего теста (ThreadLocal: тест и его page-object'ы в одном потоке).
+ *
+ * Пишут в него сами page-object'ы:
+ * - действия: time("merchant.openActionsMenu", ...);
+ * - готовность роута: markNavigation(route) при клике в меню -> routeReady(route) в waitOpened списка,
+ *   замер "route /payment/dictionary/list" = от клика до готовности страницы.
+ *
+ * Читают — JUnit-расширения (бюджеты, baseline, jank) и отчёты. Сбрасывает перед тестом только PerfTimelineExtension.
+ */
+public final class PerfTimeline {
+
+    public static final String ROUTE_PREFIX = "route ";
+
+    public record TimedAction(String name, long startEpochMs, long durationMs) {}
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private static final class State {
+        final List<TimedAction> actions = new ArrayList<>();
+        String navRoute;
+        long navStartEpochMs;
+        long navStartNs;
+    }
+
+    private PerfTimeline() {}
+
+    public static void reset() {
+        STATE.remove();
+    }
+
+    public static List<TimedAction> actions() {
+        return List.copyOf(STATE.get().actions);
+    }
+
+    public static void time(String name, Runnable step) {
+        time(name, () -> {
+            step.run();
+            return null;
+        });
+    }
+
+    /**
+     * Замер шага. Упавший шаг не записывается — его время не про производительность.
+     */
+    public static <T> T time(String name, Supplier<T> step) {
+        long startEpochMs = System.currentTimeMillis();
+        long startNs = System.nanoTime();
+        T result = step.get();
+        record(name, startEpochMs, (System.nanoTime() - startNs) / 1_000_000);
+        return result;
+    }
+
+    public static void record(String name, long startEpochMs, long durationMs) {
+        STATE.get().actions.add(new TimedAction(name, startEpochMs, durationMs));
+    }
+
+    /** Клик в меню, который должен привести на route (href вкладки). */
+    public static void markNavigation(String route) {
+        State state = STATE.get();
+        state.navRoute = route;
+        state.navStartEpochMs = System.currentTimeMillis();
+        state.navStartNs = System.nanoTime();
+    }
+
+    /**
+     * Страница route готова. Пишем замер только если до этого был клик в меню на этот же route.
+     */
+    public static void routeReady(String route) {
+        State state = STATE.get();
+        if (!route.equals(state.navRoute)) return;
+
+        record(ROUTE_PREFIX + route, state.navStartEpochMs, (System.nanoTime() - state.navStartNs) / 1_000_000);
+        state.navRoute = null;
+    }
+}
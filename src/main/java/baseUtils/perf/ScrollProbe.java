@@ -0,0 +1,69 @@
+package baseUtils.perf;
+
+import com.microsoft.playwright.Page;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Прокрутка таблицы до конца по экранам с замером кадров (rAF после каждого шага).
+ * Прокручивается ближайший прокручиваемый предок таблицы, иначе — документ.
+ */
+public final class ScrollProbe {
+
+    /** steps — сколько экранов прокрутили; кадры — время от шага до следующего кадра. */
+    public record ScrollTiming(int steps, double totalMs, double maxFrameMs, double p95FrameMs) {
+
+        @Override
+        public String toString() {
+            return String.format("%d steps in %.0f ms (frame max %.0f ms, p95 %.0f ms)", steps, totalMs, maxFrameMs, p95FrameMs);
+        }
+    }
+
+    private static final String SCROLL_SCRIPT = """
+            ([tableSelector, maxSteps]) => new Promise((resolve) => {
+              const table = document.querySelector(tableSelector);
+              let scroller = table ? table.parentElement : null;
+              while (scroller && scroller !== document.body) {
+                const overflow = getComputedStyle(scroller).overflowY;
+                if ((overflow === 'auto' || overflow === 'scroll') && scroller.scrollHeight > scroller.clientHeight) break;
+                scroller = scroller.parentElement;
+              }
+              if (!scroller || scroller === document.body) scroller = document.scrollingElement;
+
+              const frames = [];
+              const started = performance.now();
+              const step = () => {
+                const atEnd = scroller.scrollTop + scroller.clientHeight >= scroller.scrollHeight - 1;
+                if (atEnd || frames.length >= maxSteps) {
+                  frames.sort((a, b) => a - b);
+                  resolve({
+                    steps: frames.length,
+                    totalMs: performance.now() - started,
+                    maxFrameMs: frames.length ? frames[frames.length - 1] : 0,
+                    p95FrameMs: frames.length ? frames[Math.min(frames.length - 1, Math.floor(frames.length * 0.95))] : 0
+                  });
+                  return;
+                }
+                const t = performance.now();
+                scroller.scrollTop += scroller.clientHeight;
+                requestAnimationFrame(() => { frames.push(performance.now() - t); setTimeout(step, 0); });
+              };
+              step();
+            })
+            """;
+
+    private ScrollProbe() {}
+
+    public static ScrollTiming scrollToEnd(Page page, String tableSelector, int maxSteps) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> r = (Map<String, Object>) page.evaluate(SCROLL_SCRIPT, List.of(tableSelector, maxSteps));
+
+        return new ScrollTiming(
+                ((Number) r.get("steps")).intValue(),
+                ((Number) r.get("totalMs")).doubleValue(),
+                ((Number) r.get("maxFrameMs")).doubleValue(),
+                ((Number) r.get("p95FrameMs")).doubleValue()
+        );
+    }
+}
@@ -0,0 +1,183 @@
+package baseUtils.perf;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Page;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Аудит кэширования и сжатия статики SPA (JS, CSS, шрифты) через CDP Network (только Chromium):
+ * заголовки ответа + реально переданные по сети байты (encodedDataLength; из кэша — ~0).
+ *
+ * Холодная загрузка — новый контекст, тёплая — новая страница в том же контексте (как оператор,
+ * открывший вкладку заново). Всё, что в тёплой загрузке снова пришло по сети, — потерянные байты.
+ */
+public final class StaticAssetAudit {
+
+    /** Одна загрузка ассета. headers — с ключами в нижнем регистре. */
+    public record AssetLoad(String url, String type, int status, Map<String, String> headers, long wireBytes, boolean fromCache) {
+
+        String header(String name) {
+            return headers.getOrDefault(name, "");
+        }
+    }
+
+    /** Проблема ассета: wastedBytes — сколько байт на ней теряется за прогон (оценка для сжатия). */
+    public record AssetProblem(String url, long wastedBytes, List<String> issues) {}
+
+    private static final List<String> ASSET_TYPES = List.of("Script", "Stylesheet", "Font");
+
+    // Angular outputHashing: main.3f2a1b4c5d6e7f80.js, styles.1a2b3c4d5e6f7a8b.css
+    private static final Pattern HASHED_NAME = Pattern.compile("[.-][0-9a-f]{8,}\\.(?:js|css|woff2?|ttf|otf|eot)(?:\\?|$)");
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+
+    private static final long LONG_CACHE_SECONDS = 30L * 24 * 3600;
+
+    // грубая оценка выигрыша gzip/br для текстовых ассетов
+    private static final double COMPRESSION_SAVING = 0.7;
+
+    private StaticAssetAudit() {}
+
+    /**
+     * Слушатель CDP Network на одной странице. Подключать до навигации.
+     */
+    public static final class Capture {
+
+        private final Map<String, JsonObject> responses = new HashMap<>();
+        private final Map<String, Boolean> servedFromCache = new HashMap<>();
+        private final List<AssetLoad> loads = new ArrayList<>();
+
+        private Capture(Page page) {
+            CDPSession cdp = page.context().newCDPSession(page);
+            cdp.on("Network.requestServedFromCache", e -> servedFromCache.put(e.get("requestId").getAsString(), true));
+            cdp.on("Network.responseReceived", e -> {
+                if (ASSET_TYPES.contains(e.get("type").getAsString())) {
+                    responses.put(e.get("requestId").getAsString(), e);
+                }
+            });
+            cdp.on("Network.loadingFinished", e -> {
+                String id = e.get("requestId").getAsString();
+                JsonObject received = responses.remove(id);
+                if (received != null) {
+                    loads.add(toLoad(received, e.get("encodedDataLength").getAsLong(), servedFromCache.containsKey(id)));
+                }
+            });
+            cdp.send("Network.enable");
+        }
+
+        public List<AssetLoad> loads() {
+            return List.copyOf(loads);
+        }
+
+        public long wireBytes() {
+            return loads().stream().mapToLong(AssetLoad::wireBytes).sum();
+        }
+    }
+
+    public static Capture capture(Page page) {
+        return new Capture(page);
+    }
+
+    private static AssetLoad toLoad(JsonObject event, long wireBytes, boolean servedFromCache) {
+        JsonObject response = event.getAsJsonObject("response");
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonElement> h : response.getAsJsonObject("headers").entrySet()) {
+            headers.put(h.getKey().toLowerCase(Locale.ROOT), h.getValue().getAsString());
+        }
+        boolean fromDiskCache = response.has("fromDiskCache") && response.get("fromDiskCache").getAsBoolean();
+
+        return new AssetLoad(response.get("url").getAsString(), event.get("type").getAsString(),
+                response.get("status").getAsInt(), headers, wireBytes, servedFromCache || fromDiskCache);
+    }
+
+    /**
+     * Проблемы по уникальным URL: cold — загрузки из свежих контекстов (заголовки, размер),
+     * warm — повторные загрузки (всё, что пришло по сети, — потеря). Отсортировано по потерянным байтам.
+     */
+    public static List<AssetProblem> problems(List<AssetLoad> cold, List<AssetLoad> warm) {
+        Map<String, AssetLoad> firstCold = new LinkedHashMap<>();
+        for (AssetLoad load : cold) {
+            firstCold.putIfAbsent(load.url(), load);
+        }
+        Map<String, Long> warmBytes = new HashMap<>();
+        for (AssetLoad load : warm) {
+            warmBytes.merge(load.url(), load.wireBytes(), Long::sum);
+        }
+
+        List<AssetProblem> problems = new ArrayList<>();
+        for (AssetLoad a : firstCold.values()) {
+            List<String> issues = new ArrayList<>();
+            long wasted = 0;
+
+            String cacheControl = a.header("cache-control").toLowerCase(Locale.ROOT);
+            boolean hashed = HASHED_NAME.matcher(a.url()).find();
+            long maxAge = maxAgeSeconds(cacheControl);
+
+            if (cacheControl.isEmpty()) {
+                issues.add("no Cache-Control");
+            } else if (cacheControl.contains("no-store")) {
+                issues.add("Cache-Control: no-store");
+            } else if (hashed && (maxAge < LONG_CACHE_SECONDS || cacheControl.contains("no-cache"))) {
+                issues.add("hashed file without long max-age/immutable (" + cacheControl + ")");
+            }
+            if (a.header("etag").isEmpty() && a.header("last-modified").isEmpty()) {
+                issues.add("no ETag/Last-Modified (cannot revalidate)");
+            }
+
+            long rewired = warmBytes.getOrDefault(a.url(), 0L);
+            if (rewired > 1024) {
+                issues.add(String.format("re-downloaded on warm load (%d KB)", rewired / 1024));
+                wasted += rewired;
+            }
+
+            boolean text = !"Font".equals(a.type());
+            String encoding = a.header("content-encoding");
+            if (text && (encoding.isEmpty() || "identity".equalsIgnoreCase(encoding)) && a.wireBytes() > 1024) {
+                long saving = Math.round(a.wireBytes() * COMPRESSION_SAVING);
+                issues.add(String.format("not compressed (~%d KB saving with gzip/br)", saving / 1024));
+                wasted += saving;
+            }
+
+            if (!issues.isEmpty()) {
+                problems.add(new AssetProblem(a.url(), wasted, issues));
+            }
+        }
+
+        problems.sort(Comparator.comparingLong(AssetProblem::wastedBytes).reversed());
+        return problems;
+    }
+
+    private static long maxAgeSeconds(String cacheControl) {
+        Matcher m = MAX_AGE.matcher(cacheControl);
+        long maxAge = m.find() ? Long.parseLong(m.group(1)) : 0;
+        return cacheControl.contains("immutable") ? Math.max(maxAge, LONG_CACHE_SECONDS) : maxAge;
+    }
+
+    /**
+     * perRoute — route -> {coldBytes, warmBytes}.
+     */
+    public static String report(Map<String, long[]> perRoute, List<AssetProblem> problems) {
+        StringBuilder sb = new StringBuilder(String.format("Static assets (JS/CSS/fonts): cold vs warm load per route%n"));
+        sb.append(String.format("%-40s %10s %10s %8s%n", "route", "cold KB", "warm KB", "saved"));
+        perRoute.forEach((route, b) -> sb.append(String.format("%-40s %10d %10d %7.0f%%%n",
+                route, b[0] / 1024, b[1] / 1024, b[0] > 0 ? (b[0] - b[1]) * 100.0 / b[0] : 0)));
+
+        sb.append(String.format("%nCacheability problems by bytes wasted (%d):%n", problems.size()));
+        for (AssetProblem p : problems) {
+            sb.append(String.format("%8d KB  %s%n", p.wastedBytes() / 1024, p.url()));
+            p.issues().forEach(i -> sb.append("             - ").append(i).append(System.lineSeparator()));
+        }
+        return sb.toString();
+    }
+}
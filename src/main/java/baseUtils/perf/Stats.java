@@ -0,0 +1,43 @@
+package baseUtils.perf;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Простые статистики по замерам (мс).
+ */
+public final class Stats {
+
+    private Stats() {}
+
+    /**
+     * Перцентиль методом nearest-rank. p — от 0 до 100. Пустая выборка -> 0.
+     */
+    public static double percentile(Collection<? extends Number> samples, double p) {
+        if (samples.isEmpty()) return 0;
+
+        double[] sorted = samples.stream().mapToDouble(Number::doubleValue).sorted().toArray();
+        return percentileSorted(sorted, p);
+    }
+
+    public static double percentileSorted(double[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.min(sorted.length - 1, Math.max(0, rank - 1))];
+    }
+
+    public static double mean(Collection<? extends Number> samples) {
+        return samples.stream().mapToDouble(Number::doubleValue).average().orElse(0);
+    }
+
+    public static double max(Collection<? extends Number> samples) {
+        return samples.stream().mapToDouble(Number::doubleValue).max().orElse(0);
+    }
+
+    public static double[] sorted(Collection<? extends Number> samples) {
+        double[] values = samples.stream().mapToDouble(Number::doubleValue).toArray();
+        Arrays.sort(values);
+        return values;
+    }
+}
@@ -0,0 +1,82 @@
+package baseUtils.perf;
+
+import com.microsoft.playwright.Page;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Замер отрисовки mat-table на стороне браузера (performance.now, без round trip'ов в замере).
+ *
+ * Использование: arm(...) перед кликом по вкладке меню -> клик -> awaitRendered(...).
+ * firstRowMs — от arm до появления первой строки, fullTableMs — до последнего изменения числа строк
+ * (таблица считается дорисованной, если строки не менялись quietMs).
+ */
+public final class TableRenderProbe {
+
+    public record TableRenderTiming(double firstRowMs, double fullTableMs, int rows) {}
+
+    private static final String ARM_SCRIPT = """
+            (rowSelector) => {
+              if (window.__arcaTableProbe && window.__arcaTableProbe.observer) {
+                window.__arcaTableProbe.observer.disconnect();
+              }
+              const probe = { t0: performance.now(), firstRow: null, lastChange: null, rows: 0, rowSelector };
+              const check = () => {
+                const rows = document.querySelectorAll(rowSelector).length;
+                const now = performance.now();
+                if (rows > 0 && probe.firstRow === null) probe.firstRow = now;
+                if (rows !== probe.rows) {
+                  probe.rows = rows;
+                  probe.lastChange = now;
+                }
+              };
+              probe.observer = new MutationObserver(check);
+              probe.observer.observe(document.documentElement, { childList: true, subtree: true });
+              window.__arcaTableProbe = probe;
+            }
+            """;
+
+    private static final String AWAIT_SCRIPT = """
+            ([quietMs, timeoutMs]) => new Promise((resolve, reject) => {
+              const probe = window.__arcaTableProbe;
+              if (!probe) { reject(new Error('TableRenderProbe is not armed')); return; }
+              const deadline = performance.now() + timeoutMs;
+              const tick = () => {
+                const now = performance.now();
+                if (probe.firstRow !== null && probe.rows > 0 && now - probe.lastChange >= quietMs) {
+                  probe.observer.disconnect();
+                  resolve({ firstRowMs: probe.firstRow - probe.t0, fullTableMs: probe.lastChange - probe.t0, rows: probe.rows });
+                  return;
+                }
+                if (now > deadline) {
+                  probe.observer.disconnect();
+                  reject(new Error('Table was not rendered in ' + timeoutMs + 'ms, rows=' + probe.rows));
+                  return;
+                }
+                setTimeout(tick, 50);
+              };
+              tick();
+            })
+            """;
+
+    private TableRenderProbe() {}
+
+    /**
+     * rowSelector — CSS строк таблицы, например "main table[role='table'] tbody tr".
+     */
+    public static void arm(Page page, String rowSelector) {
+        page.evaluate(ARM_SCRIPT, rowSelector);
+    }
+
+    public static TableRenderTiming awaitRendered(Page page, long quietMs, long timeoutMs) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> r = (Map<String, Object>) page.evaluate(AWAIT_SCRIPT, List.of(quietMs, timeoutMs));
+
+        return new TableRenderTiming(
+                ((Number) r.get("firstRowMs")).doubleValue(),
+                ((Number) r.get("fullTableMs")).doubleValue(),
+                ((Number) r.get("rows")).intValue()
+        );
+    }
+}
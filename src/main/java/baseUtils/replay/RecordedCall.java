@@ -0,0 +1,23 @@
+package baseUtils.replay;
+
+import java.util.regex.Pattern;
+
+/**
+ * Один записанный вызов API.
+ * offsetMs — смещение от первого вызова сессии (по нему сохраняем интервалы между запросами).
+ * path — путь + query без хоста, чтобы проигрывать на любой стенд (в т.ч. локальную заглушку).
+ */
+public record RecordedCall(long offsetMs, String method, String path, String body) {
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    /**
+     * Ключ эндпоинта для отчёта: "POST /api/CommunicationDictionary/addDictionaries".
+     * Query отбрасываем, числовые сегменты пути схлопываем в {id}.
+     */
+    public String endpoint() {
+        int q = path.indexOf('?');
+        String pathOnly = q >= 0 ? path.substring(0, q) : path;
+        return method + " " + NUMERIC_SEGMENT.matcher(pathOnly).replaceAll("/{id}");
+    }
+}
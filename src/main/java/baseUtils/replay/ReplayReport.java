@@ -0,0 +1,92 @@
+package baseUtils.replay;
+
+import baseUtils.perf.Stats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Отчёт по проигрышу: сводка по эндпоинтам + кривые латентности/ошибок по временным окнам.
+ */
+public class ReplayReport {
+
+    private final double speed;
+    private final int concurrency;
+    private final long bucketMs;
+    private final List<ReplayResult> results;
+
+    public ReplayReport(double speed, int concurrency, long bucketMs, List<ReplayResult> results) {
+        this.speed = speed;
+        this.concurrency = concurrency;
+        this.bucketMs = bucketMs;
+        this.results = List.copyOf(results);
+    }
+
+    public double speed() {
+        return speed;
+    }
+
+    public List<ReplayResult> results() {
+        return results;
+    }
+
+    public long errorCount() {
+        return results.stream().filter(ReplayResult::isError).count();
+    }
+
+    public Map<String, List<ReplayResult>> byEndpoint() {
+        Map<String, List<ReplayResult>> map = new TreeMap<>();
+        for (ReplayResult r : results) {
+            map.computeIfAbsent(r.call().endpoint(), k -> new ArrayList<>()).add(r);
+        }
+        return map;
+    }
+
+    /**
+     * Текстовый отчёт: сначала сводка, затем кривые (окна по bucketMs времени проигрыша).
+     */
+    public String toText() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Replay x%s, concurrency=%d, calls=%d, errors=%d%n",
+                formatSpeed(speed), concurrency, results.size(), errorCount()));
+
+        sb.append(String.format("%n%-70s %7s %7s %8s %8s %8s %8s %8s%n",
+                "endpoint", "calls", "errors", "p50", "p95", "p99", "max", "lagP95"));
+
+        Map<String, List<ReplayResult>> byEndpoint = byEndpoint();
+        for (Map.Entry<String, List<ReplayResult>> e : byEndpoint.entrySet()) {
+            List<Long> latencies = e.getValue().stream().map(ReplayResult::latencyMs).toList();
+            List<Long> lags = e.getValue().stream().map(ReplayResult::lagMs).toList();
+            long errors = e.getValue().stream().filter(ReplayResult::isError).count();
+
+            sb.append(String.format("%-70s %7d %7d %8.0f %8.0f %8.0f %8.0f %8.0f%n",
+                    e.getKey(), e.getValue().size(), errors,
+                    Stats.percentile(latencies, 50), Stats.percentile(latencies, 95),
+                    Stats.percentile(latencies, 99), Stats.max(latencies),
+                    Stats.percentile(lags, 95)));
+        }
+
+        sb.append(String.format("%nCurves (window=%d ms of replay time): calls / errors / p95 ms%n", bucketMs));
+        for (Map.Entry<String, List<ReplayResult>> e : byEndpoint.entrySet()) {
+            sb.append(e.getKey()).append('\n');
+
+            Map<Long, List<ReplayResult>> buckets = new TreeMap<>();
+            for (ReplayResult r : e.getValue()) {
+                buckets.computeIfAbsent(r.replayOffsetMs() / bucketMs, k -> new ArrayList<>()).add(r);
+            }
+            for (Map.Entry<Long, List<ReplayResult>> b : buckets.entrySet()) {
+                List<Long> latencies = b.getValue().stream().map(ReplayResult::latencyMs).toList();
+                long errors = b.getValue().stream().filter(ReplayResult::isError).count();
+                sb.append(String.format("  t=%6ds  %5d / %4d / %6.0f%n",
+                        b.getKey() * bucketMs / 1000, b.getValue().size(), errors, Stats.percentile(latencies, 95)));
+            }
+        }
+        return sb.toString();
+    }
+
+    static String formatSpeed(double speed) {
+        return speed == Math.rint(speed) ? String.valueOf((long) speed) : String.valueOf(speed);
+    }
+}
@@ -0,0 +1,14 @@
+package baseUtils.replay;
+
+/**
+ * Результат одного проигранного вызова.
+ * replayOffsetMs — когда вызов должен был уйти (в масштабе ускоренного времени),
+ * lagMs — насколько он ушёл позже (все воркеры были заняты),
+ * status — HTTP-статус или -1, если запрос не дошёл (ошибка в error).
+ */
+public record ReplayResult(RecordedCall call, long replayOffsetMs, long lagMs, long latencyMs, int status, String error) {
+
+    public boolean isError() {
+        return status < 0 || status >= 400;
+    }
+}
@@ -0,0 +1,92 @@
+package baseUtils.replay;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Локальная заглушка API для replay: отвечает на любой путь 200 (или 500 с долей errorRate)
+ * после искусственной задержки. Позволяет гонять 10x/100x, не нагружая dev-стенд.
+ */
+public class ReplayStub implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMs;
+    private final long jitterMs;
+    private final double errorRate;
+
+    private ReplayStub(long latencyMs, long jitterMs, double errorRate, int threads) {
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.errorRate = errorRate;
+
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start replay stub", e);
+        }
+        this.executor = Executors.newFixedThreadPool(threads);
+
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /** Задержка/ошибки берутся из -Dreplay.stub.latencyMs, jitterMs, errorRate, threads. */
+    public static ReplayStub start() {
+        return start(
+                Long.getLong("replay.stub.latencyMs", 20),
+                Long.getLong("replay.stub.jitterMs", 10),
+                Double.parseDouble(System.getProperty("replay.stub.errorRate", "0")),
+                Integer.getInteger("replay.stub.threads", 64)
+        );
+    }
+
+    public static ReplayStub start(long latencyMs, long jitterMs, double errorRate, int threads) {
+        return new ReplayStub(latencyMs, jitterMs, errorRate, threads);
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = latencyMs + (jitterMs > 0 ? random.nextLong(jitterMs + 1) : 0);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        boolean fail = errorRate > 0 && random.nextDouble() < errorRate;
+        byte[] body = (fail ? "{\"error\":\"stub\"}" : "GET".equals(exchange.getRequestMethod()) ? "[]" : "{}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(fail ? 500 : 200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
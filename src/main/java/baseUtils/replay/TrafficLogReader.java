@@ -0,0 +1,142 @@
+package baseUtils.replay;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Чтение записанного трафика UI-прогона.
+ *
+ * Форматы:
+ * - HAR (*.har) — например, из Browser.NewContextOptions.setRecordHarPath(...) в тестах dictionary/provider/merchant;
+ * - JSONL — по строке на вызов: {"ts": epochMillis, "method": "POST", "url": "...", "body": "..."}.
+ *
+ * HAR читается потоково (entry за entry), чтобы большие записи с телами ответов не поднимать целиком.
+ */
+public final class TrafficLogReader {
+
+    /** По умолчанию проигрываем только вызовы API (статику SPA — нет). */
+    public static final Predicate<String> API_ONLY = path -> path.startsWith("/api/");
+
+    private TrafficLogReader() {}
+
+    public static List<RecordedCall> read(Path file) {
+        return read(file, API_ONLY);
+    }
+
+    public static List<RecordedCall> read(Path file, Predicate<String> pathFilter) {
+        List<TimedCall> timed = new ArrayList<>();
+        try {
+            if (file.getFileName().toString().toLowerCase().endsWith(".har")) {
+                readHar(file, pathFilter, timed);
+            } else {
+                readJsonLines(file, pathFilter, timed);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read traffic log " + file, e);
+        }
+
+        timed.sort(Comparator.comparingLong(TimedCall::epochMs));
+
+        List<RecordedCall> calls = new ArrayList<>(timed.size());
+        if (timed.isEmpty()) return calls;
+
+        long first = timed.get(0).epochMs();
+        for (TimedCall t : timed) {
+            calls.add(new RecordedCall(t.epochMs() - first, t.method(), t.path(), t.body()));
+        }
+        return calls;
+    }
+
+    // ===== HAR =====
+
+    private static void readHar(Path file, Predicate<String> pathFilter, List<TimedCall> out) throws IOException {
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (!reader.nextName().equals("log")) {
+                    reader.skipValue();
+                    continue;
+                }
+
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    if (!reader.nextName().equals("entries") || reader.peek() != JsonToken.BEGIN_ARRAY) {
+                        reader.skipValue();
+                        continue;
+                    }
+
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        JsonObject entry = JsonParser.parseReader(reader).getAsJsonObject();
+                        TimedCall call = harEntry(entry);
+                        if (call != null && pathFilter.test(call.path())) out.add(call);
+                    }
+                    reader.endArray();
+                }
+                reader.endObject();
+            }
+            reader.endObject();
+        }
+    }
+
+    private static TimedCall harEntry(JsonObject entry) {
+        JsonObject request = entry.getAsJsonObject("request");
+        if (request == null || !entry.has("startedDateTime")) return null;
+
+        long epochMs = OffsetDateTime.parse(entry.get("startedDateTime").getAsString()).toInstant().toEpochMilli();
+
+        String body = null;
+        JsonObject postData = request.getAsJsonObject("postData");
+        if (postData != null && postData.has("text")) {
+            body = postData.get("text").getAsString();
+        }
+
+        return new TimedCall(epochMs, request.get("method").getAsString(), pathOf(request.get("url").getAsString()), body);
+    }
+
+    // ===== JSONL =====
+
+    private static void readJsonLines(Path file, Predicate<String> pathFilter, List<TimedCall> out) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+
+                JsonObject obj = JsonParser.parseString(line).getAsJsonObject();
+                JsonElement body = obj.get("body");
+
+                TimedCall call = new TimedCall(
+                        obj.get("ts").getAsLong(),
+                        obj.get("method").getAsString(),
+                        pathOf(obj.get("url").getAsString()),
+                        body == null || body.isJsonNull() ? null : (body.isJsonPrimitive() ? body.getAsString() : body.toString())
+                );
+                if (pathFilter.test(call.path())) out.add(call);
+            }
+        }
+    }
+
+    private static String pathOf(String url) {
+        URI uri = URI.create(url);
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        return uri.getRawQuery() != null ? path + "?" + uri.getRawQuery() : path;
+    }
+
+    private record TimedCall(long epochMs, String method, String path, String body) {}
+}
@@ -0,0 +1,137 @@
+package baseUtils.replay;
+
+import baseUtils.api.ApiRequests;
+import baseUtils.api.ApiWorkerPool;
+import baseUtils.perf.PerfReports;
+import com.microsoft.playwright.APIResponse;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Проигрывает записанную сессию через ApiRequests с сохранением интервалов между вызовами.
+ * speed=10 — те же вызовы в 10 раз плотнее по времени. Параллельность ограничена размером ApiWorkerPool:
+ * если все воркеры заняты, вызов ждёт, и это видно в отчёте как lag.
+ */
+public class TrafficReplayer {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final ApiWorkerPool pool;
+    private final long bucketMs;
+
+    public TrafficReplayer(ApiWorkerPool pool) {
+        this(pool, 1_000);
+    }
+
+    public TrafficReplayer(ApiWorkerPool pool, long bucketMs) {
+        this.pool = pool;
+        this.bucketMs = bucketMs;
+    }
+
+    public ReplayReport replay(List<RecordedCall> calls, double speed) {
+        if (speed <= 0) throw new IllegalArgumentException("speed must be > 0, got " + speed);
+
+        List<CompletableFuture<ReplayResult>> futures = new ArrayList<>(calls.size());
+        long startNs = System.nanoTime();
+
+        for (RecordedCall call : calls) {
+            long dueNs = startNs + (long) (TimeUnit.MILLISECONDS.toNanos(call.offsetMs()) / speed);
+
+            long waitNs;
+            while ((waitNs = dueNs - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(waitNs);
+            }
+
+            futures.add(pool.submit(api -> execute(api, call, startNs, dueNs)));
+        }
+
+        List<ReplayResult> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<ReplayResult> f : futures) {
+            results.add(f.join());
+        }
+        return new ReplayReport(speed, pool.workers(), bucketMs, results);
+    }
+
+    private static ReplayResult execute(ApiRequests api, RecordedCall call, long startNs, long dueNs) {
+        long sentNs = System.nanoTime();
+        long replayOffsetMs = TimeUnit.NANOSECONDS.toMillis(dueNs - startNs);
+        long lagMs = TimeUnit.NANOSECONDS.toMillis(sentNs - dueNs);
+
+        try {
+            APIResponse resp = api.send(call.method(), call.path(), call.body());
+            long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sentNs);
+            int status = resp.status();
+            resp.dispose();
+            return new ReplayResult(call, replayOffsetMs, lagMs, latencyMs, status, null);
+        } catch (Exception e) {
+            long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sentNs);
+            return new ReplayResult(call, replayOffsetMs, lagMs, latencyMs, -1, e.getMessage());
+        }
+    }
+
+    /**
+     * Только чтения: GET/HEAD/OPTIONS. Пишущие вызовы (POST/PUT/DELETE...) меняют данные стенда.
+     */
+    public static List<RecordedCall> readOnly(List<RecordedCall> calls) {
+        return calls.stream().filter(c -> SAFE_METHODS.contains(c.method().toUpperCase())).toList();
+    }
+
+    /**
+     * Запуск из командной строки: args[0] — HAR или JSONL.
+     *
+     * -Dreplay.target=stub|https://...   (по умолчанию stub — локальная заглушка; реальный стенд — только явно)
+     * -Dreplay.writes=true               (проигрывать и пишущие вызовы; по умолчанию только GET/HEAD/OPTIONS)
+     * -Dreplay.speeds=1,10,100
+     * -Dreplay.concurrency=8             (размер ApiWorkerPool)
+     * -Dreplay.token=...                 (Bearer, если стенд требует)
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: TrafficReplayer <session.har|session.jsonl>");
+            System.exit(2);
+        }
+
+        Path log = Paths.get(args[0]);
+        List<RecordedCall> calls = TrafficLogReader.read(log);
+
+        if (!Boolean.getBoolean("replay.writes")) {
+            List<RecordedCall> reads = readOnly(calls);
+            if (reads.size() < calls.size()) {
+                System.out.println("Skipping " + (calls.size() - reads.size()) + " write calls (enable with -Dreplay.writes=true)");
+            }
+            calls = reads;
+        }
+
+        String target = System.getProperty("replay.target", "stub");
+        int concurrency = Integer.getInteger("replay.concurrency", 8);
+
+        Map<String, String> headers = new HashMap<>();
+        String token = System.getProperty("replay.token");
+        if (token != null && !token.isBlank()) headers.put("Authorization", "Bearer " + token);
+
+        ReplayStub stub = target.equals("stub") ? ReplayStub.start() : null;
+        try (ApiWorkerPool pool = new ApiWorkerPool(concurrency, stub != null ? stub.baseUrl() : target, headers)) {
+            TrafficReplayer replayer = new TrafficReplayer(pool);
+
+            for (String s : System.getProperty("replay.speeds", "1,10,100").split(",")) {
+                double speed = Double.parseDouble(s.trim());
+                ReplayReport report = replayer.replay(calls, speed);
+
+                String text = report.toText();
+                System.out.println(text);
+                PerfReports.write("replay-x" + ReplayReport.formatSpeed(speed) + ".txt", text);
+            }
+        } finally {
+            if (stub != null) stub.close();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package pages.components;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.AriaRole;
+
+import java.util.Arrays;
+
+/**
+ * mat-select (Angular Material). Быстрый путь — клавиатура по закрытому селекту: фокус + typeahead
+ * по тексту опции (или End для последней) выбирают опцию без открытия панели, дальше одно
+ * ожидание, что значение в триггере сменилось. Если не вышло — обычный выбор кликом через панель.
+ *
+ * На закрытом селекте каждое нажатие стрелки/Home сразу коммитит выбор (valueChange, запросы) —
+ * поэтому по индексу выбираем только через панель: ровно один выбор.
+ *
+ * host — сам mat-select (role=combobox), не внутренний .mat-mdc-select-trigger.
+ */
+public class MatSelect {
+
+    // typeaheadDebounceInterval у mat-select по умолчанию 200 мс — с запасом
+    private static final long KEYBOARD_TIMEOUT_MS = 1_000;
+    private static final long CLICK_TIMEOUT_MS = 5_000;
+
+    // ждёт, пока текст значения станет expected (null — просто вернуть текущий после кадра)
+    private static final String AWAIT_VALUE_SCRIPT = """
+            (el, [expected, timeoutMs]) => new Promise((resolve) => {
+              const norm = (s) => (s || '').replace(/\\s+/g, ' ').trim().toLowerCase();
+              const read = () => {
+                const value = el.querySelector('.mat-mdc-select-value-text, .mat-select-value-text');
+                return (value ? value.textContent : '').trim();
+              };
+              const deadline = performance.now() + timeoutMs;
+              const tick = () => {
+                const current = read();
+                const done = expected === null ? true : norm(current) === norm(expected);
+                if (done || performance.now() > deadline) { resolve(current); return; }
+                requestAnimationFrame(tick);
+              };
+              requestAnimationFrame(tick);
+            })
+            """;
+
+    private final Page page;
+    private final Locator host;
+
+    public MatSelect(Page page, Locator host) {
+        this.page = page;
+        this.host = host;
+    }
+
+    /** Текст выбранной опции (пусто — ничего не выбрано). */
+    public String value() {
+        return awaitValue(null, 0);
+    }
+
+    /**
+     * Выбрать опцию по тексту (точное совпадение без учёта регистра).
+     * Уже выбранная опция typeahead'ом не меняется — ожидание завершится сразу.
+     */
+    public void select(String option) {
+        // typeahead закрытого mat-select сразу выбирает первую опцию, начинающуюся с набранного
+        host.focus();
+        host.pressSequentially(option);
+        if (option.equalsIgnoreCase(awaitValue(option, KEYBOARD_TIMEOUT_MS))) return;
+
+        selectByClick(option);
+    }
+
+    /**
+     * Выбрать опцию по индексу (0-based) — для селектов, где тексты опций зависят от языка интерфейса.
+     * Через панель; проверяет, что в триггере именно эта опция. Возвращает её текст.
+     */
+    public String selectIndex(int index) {
+        host.click();
+        return clickOption(panel().getByRole(AriaRole.OPTION).nth(index));
+    }
+
+    /**
+     * Выбрать последнюю опцию (End — один выбор) — например, максимальный размер страницы mat-paginator.
+     * Значение не сменилось — через панель.
+     */
+    public String selectLast() {
+        String before = value();
+        host.focus();
+        host.press("End");
+        String selected = awaitValue(null, 0);
+        if (!selected.isEmpty() && !selected.equals(before)) return selected;
+
+        host.click();
+        return clickOption(panel().getByRole(AriaRole.OPTION).last());
+    }
+
+    // ===== fallback: через панель =====
+
+    // текст опции (как его показывает триггер) -> клик -> ждём его в триггере
+    private String clickOption(Locator option) {
+        String expected = option.locator(".mdc-list-item__primary-text, .mat-option-text").first()
+                .textContent().replaceAll("\\s+", " ").trim();
+        option.click();
+        String actual = awaitValue(expected, CLICK_TIMEOUT_MS);
+        if (!expected.equalsIgnoreCase(actual.replaceAll("\\s+", " "))) {
+            throw new IllegalStateException("mat-select value is '" + actual + "', expected '" + expected + "'");
+        }
+        return actual;
+    }
+
+    private void selectByClick(String option) {
+        host.click();
+        clickOption(panel().getByRole(AriaRole.OPTION, new Locator.GetByRoleOptions().setName(option).setExact(true)));
+    }
+
+    // открытая панель (её id есть в aria-controls хоста только пока она открыта, поэтому по классу)
+    private Locator panel() {
+        return page.locator("div.mat-mdc-select-panel").last();
+    }
+
+    private String awaitValue(String expected, long timeoutMs) {
+        return (String) host.evaluate(AWAIT_VALUE_SCRIPT, Arrays.asList(expected, timeoutMs));
+    }
+}
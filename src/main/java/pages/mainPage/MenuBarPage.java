@@ -1,10 +1,37 @@
 package pages.mainPage;
 
+import baseUtils.browser.DomState;
+import baseUtils.perf.PerfTimeline;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import io.qameta.allure.Step;
+import pages.components.MatSelect;
+
+import java.util.List;
+import java.util.Map;
 
 public class MenuBarPage {
+    // ===== Роуты вкладок (href в сайдбаре) =====
+    public static final String ROUTE_PAYMENT_PROVIDER = "/payment/provider/list";
+    public static final String ROUTE_PAYMENT_MERCHANT = "/payment/merchant/list";
+    public static final String ROUTE_PAYMENT_DICTIONARY = "/payment/dictionary/list";
+    public static final String ROUTE_CARD_INSPECTION_PROVIDER = "/card-inspection/provider/list";
+    public static final String ROUTE_CARD_INSPECTION_MERCHANT = "/card-inspection/merchant/list";
+    public static final String ROUTE_CARD_INSPECTION_DICTIONARY = "/card-inspection/dictionary/list";
+    public static final String ROUTE_UM_USERS = "/user-management/users/list";
+    public static final String ROUTE_UM_USER_ROLES = "/user-management/user-roles/list";
+    public static final String ROUTE_UM_DICTIONARY = "/user-management/dictionary/list";
+
+    public static final List<String> ALL_ROUTES = List.of(
+            ROUTE_PAYMENT_PROVIDER, ROUTE_PAYMENT_MERCHANT, ROUTE_PAYMENT_DICTIONARY,
+            ROUTE_CARD_INSPECTION_PROVIDER, ROUTE_CARD_INSPECTION_MERCHANT, ROUTE_CARD_INSPECTION_DICTIONARY,
+            ROUTE_UM_USERS, ROUTE_UM_USER_ROLES, ROUTE_UM_DICTIONARY
+    );
+
+    // один селектор и для Locator'а, и для DomState (оба — чистый CSS)
+    private static final String SIDEBAR_COLLAPSED_CSS = "aside.sidebar-nav.collapsed";
+    private static final DomState.Query SIDEBAR_COLLAPSED = DomState.Query.css(SIDEBAR_COLLAPSED_CSS);
+
     private final Page page;
 
     // ===== Локаторы =====
@@ -35,43 +62,47 @@ public class MenuBarPage {
 
     // Language
     private final Locator languageBar;
-    private final Locator armLanguage;
-    private final Locator engLanguage;
-    private final Locator rusLanguage;
+    private final MatSelect languageSelect;
 
     public MenuBarPage(Page page) {
         this.page = page;
 
         this.sidebar = page.locator("aside.sidebar-nav");
-        this.sidebarCollapsed = page.locator("aside.sidebar-nav.collapsed");
+        this.sidebarCollapsed = page.locator(SIDEBAR_COLLAPSED_CSS);
 
         this.burgerButton = page.locator("aside.sidebar-nav button:has(mat-icon:has-text('menu'))");
 
         this.paymentBlock = page.locator("aside.sidebar-nav a[aria-label='global.payment']");
-        this.tabPaymentProvider = page.locator("aside.sidebar-nav a[href='/payment/provider/list']");
-        this.tabPaymentMerchant = page.locator("aside.sidebar-nav a[href='/payment/merchant/list']");
-        this.tabPaymentDictionary = page.locator("aside.sidebar-nav a[href='/payment/dictionary/list']");
+        this.tabPaymentProvider = tabByRoute(ROUTE_PAYMENT_PROVIDER);
+        this.tabPaymentMerchant = tabByRoute(ROUTE_PAYMENT_MERCHANT);
+        this.tabPaymentDictionary = tabByRoute(ROUTE_PAYMENT_DICTIONARY);
 
         this.cardInspectionBlock = page.locator("aside.sidebar-nav a[aria-label='global.card_inspection']");
-        this.tabCardInspectionProvider = page.locator("aside.sidebar-nav a[href='/card-inspection/provider/list']");
-        this.tabCardInspectionMerchant = page.locator("aside.sidebar-nav a[href='/card-inspection/merchant/list']");
-        this.tabCardInspectionDictionary = page.locator("aside.sidebar-nav a[href='/card-inspection/dictionary/list']");
+        this.tabCardInspectionProvider = tabByRoute(ROUTE_CARD_INSPECTION_PROVIDER);
+        this.tabCardInspectionMerchant = tabByRoute(ROUTE_CARD_INSPECTION_MERCHANT);
+        this.tabCardInspectionDictionary = tabByRoute(ROUTE_CARD_INSPECTION_DICTIONARY);
 
         this.userManagementBlock = page.locator("aside.sidebar-nav a[aria-label='global.user_management']");
-        this.tabUMUsers = page.locator("aside.sidebar-nav a[href='/user-management/users/list']");
-        this.tabUMUsersRoles = page.locator("aside.sidebar-nav a[href='/user-management/user-roles/list']");
-        this.tabUMDictionary = page.locator("aside.sidebar-nav a[href='/user-management/dictionary/list']");
+        this.tabUMUsers = tabByRoute(ROUTE_UM_USERS);
+        this.tabUMUsersRoles = tabByRoute(ROUTE_UM_USER_ROLES);
+        this.tabUMDictionary = tabByRoute(ROUTE_UM_DICTIONARY);
 
         this.languageBar = page.locator("app-language-switcher .mat-mdc-select-trigger");
 
-        // ВАЖНО: mat-option-0/1/2 хрупко, но оставляю как у тебя.
-        this.armLanguage = page.locator("#mat-option-0");
-        this.engLanguage = page.locator("#mat-option-1");
-        this.rusLanguage = page.locator("#mat-option-2");
+        // языки по индексу опции (Armenian / English / Russian): подписи могут зависеть от текущего языка
+        this.languageSelect = new MatSelect(page, page.locator("app-language-switcher mat-select"));
     }
 
     // ===== Приватные хелперы =====
 
+    private Locator tabByRoute(String route) {
+        return page.locator(tabSelector(route));
+    }
+
+    private static String tabSelector(String route) {
+        return "aside.sidebar-nav a[href='" + route + "']";
+    }
+
     /** Кликает бургер только если меню свернуто (toggle-safe). */
     private void ensureMenuExpanded() {
         if (sidebarCollapsed.count() > 0) {
@@ -79,11 +110,27 @@ public class MenuBarPage {
         }
     }
 
-    /** Универсальный клик: открыть меню -> открыть раздел -> кликнуть вкладку */
-    private void clickMenuItem(Locator section, Locator item) {
-        ensureMenuExpanded();
-        section.click();
-        item.click();
+    /**
+     * Универсальный клик: открыть меню -> открыть раздел -> кликнуть вкладку.
+     * Свёрнуто ли меню и видна ли уже вкладка — одним evaluate; раздел кликаем, только если вкладки не видно.
+     * action — имя замера в PerfTimeline, route — href вкладки (от этого клика меряется готовность страницы).
+     */
+    private void clickMenuItem(String action, Locator section, Locator item, String route) {
+        PerfTimeline.markNavigation(route);
+        PerfTimeline.time(action, () -> {
+            Map<String, DomState.ElementState> state = DomState.read(page, Map.of(
+                    "collapsed", SIDEBAR_COLLAPSED,
+                    "item", DomState.Query.css(tabSelector(route))
+            ));
+            boolean collapsed = state.get("collapsed").exists();
+            if (collapsed) {
+                burgerButton.click();
+            }
+            if (collapsed || !state.get("item").visible()) {
+                section.click();
+            }
+            item.click();
+        });
     }
 
     // ===== Общие =====
@@ -102,17 +149,17 @@ public class MenuBarPage {
 
     @Step("Payment -> Provider")
     public void clickPaymentProvider() {
-        clickMenuItem(paymentBlock, tabPaymentProvider);
+        clickMenuItem("menu.clickPaymentProvider", paymentBlock, tabPaymentProvider, ROUTE_PAYMENT_PROVIDER);
     }
 
     @Step("Payment -> Merchant")
     public void clickPaymentMerchant() {
-        clickMenuItem(paymentBlock, tabPaymentMerchant);
+        clickMenuItem("menu.clickPaymentMerchant", paymentBlock, tabPaymentMerchant, ROUTE_PAYMENT_MERCHANT);
     }
 
     @Step("Payment -> Dictionary")
     public void clickPaymentDictionary() {
-        clickMenuItem(paymentBlock, tabPaymentDictionary);
+        clickMenuItem("menu.clickPaymentDictionary", paymentBlock, tabPaymentDictionary, ROUTE_PAYMENT_DICTIONARY);
     }
 
     // ===== Card Inspection =====
@@ -124,17 +171,17 @@ public class MenuBarPage {
 
     @Step("Card Inspection -> Provider")
     public void clickCardInspectionProvider() {
-        clickMenuItem(cardInspectionBlock, tabCardInspectionProvider);
+        clickMenuItem("menu.clickCardInspectionProvider", cardInspectionBlock, tabCardInspectionProvider, ROUTE_CARD_INSPECTION_PROVIDER);
     }
 
     @Step("Card Inspection -> Merchant")
     public void clickCardInspectionMerchant() {
-        clickMenuItem(cardInspectionBlock, tabCardInspectionMerchant);
+        clickMenuItem("menu.clickCardInspectionMerchant", cardInspectionBlock, tabCardInspectionMerchant, ROUTE_CARD_INSPECTION_MERCHANT);
     }
 
     @Step("Card Inspection -> Dictionary")
     public void clickCardInspectionDictionary() {
-        clickMenuItem(cardInspectionBlock, tabCardInspectionDictionary);
+        clickMenuItem("menu.clickCardInspectionDictionary", cardInspectionBlock, tabCardInspectionDictionary, ROUTE_CARD_INSPECTION_DICTIONARY);
     }
 
     // ===== User Management =====
@@ -146,17 +193,35 @@ public class MenuBarPage {
 
     @Step("User Management -> Users")
     public void clickUMUsers() {
-        clickMenuItem(userManagementBlock, tabUMUsers);
+        clickMenuItem("menu.clickUMUsers", userManagementBlock, tabUMUsers, ROUTE_UM_USERS);
     }
 
     @Step("User Management -> User Roles")
     public void clickUMUsersRoles() {
-        clickMenuItem(userManagementBlock, tabUMUsersRoles);
+        clickMenuItem("menu.clickUMUsersRoles", userManagementBlock, tabUMUsersRoles, ROUTE_UM_USER_ROLES);
     }
 
     @Step("User Management -> Dictionary")
     public void clickUMDictionary() {
-        clickMenuItem(userManagementBlock, tabUMDictionary);
+        clickMenuItem("menu.clickUMDictionary", userManagementBlock, tabUMDictionary, ROUTE_UM_DICTIONARY);
+    }
+
+    /**
+     * Открыть вкладку по href (один из ROUTE_*) — для прогонов по всем вкладкам.
+     */
+    public void openRoute(String route) {
+        switch (route) {
+            case ROUTE_PAYMENT_PROVIDER -> clickPaymentProvider();
+            case ROUTE_PAYMENT_MERCHANT -> clickPaymentMerchant();
+            case ROUTE_PAYMENT_DICTIONARY -> clickPaymentDictionary();
+            case ROUTE_CARD_INSPECTION_PROVIDER -> clickCardInspectionProvider();
+            case ROUTE_CARD_INSPECTION_MERCHANT -> clickCardInspectionMerchant();
+            case ROUTE_CARD_INSPECTION_DICTIONARY -> clickCardInspectionDictionary();
+            case ROUTE_UM_USERS -> clickUMUsers();
+            case ROUTE_UM_USER_ROLES -> clickUMUsersRoles();
+            case ROUTE_UM_DICTIONARY -> clickUMDictionary();
+            default -> throw new IllegalArgumentException("Unknown sidebar route: " + route);
+        }
     }
 
     // ===== Language =====
@@ -168,19 +233,16 @@ public class MenuBarPage {
 
     @Step("Select Armenian language")
     public void clickArmLanguage() {
-        clickLanguageBar();
-        armLanguage.click();
+        languageSelect.selectIndex(0);
     }
 
     @Step("Select English language")
     public void clickEngLanguage() {
-        clickLanguageBar();
-        engLanguage.click();
+        languageSelect.selectIndex(1);
     }
 
     @Step("Select Russian language")
     public void clickRusLanguage() {
-        clickLanguageBar();
-        rusLanguage.click();
+        languageSelect.selectIndex(2);
     }
 }
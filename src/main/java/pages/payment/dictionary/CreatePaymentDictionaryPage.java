@@ -1,9 +1,16 @@
 package pages.payment.dictionary;
 
+import baseUtils.browser.AngularStability;
+import baseUtils.perf.PerfTimeline;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.assertions.LocatorAssertions;
 import com.microsoft.playwright.options.AriaRole;
-import com.microsoft.playwright.options.WaitForSelectorState;
+import pages.components.MatSelect;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
 
@@ -38,20 +45,19 @@ public class CreatePaymentDictionaryPage {
                 AriaRole.BUTTON,
                 new Page.GetByRoleOptions().setName("Add Dictionary")
         );
+
+        AngularStability.install(page);
     }
 
     // ===== Ожидания / проверки =====
 
     /**
-     * Ждём, что открылась нужная страница и хотя бы одна строка формы есть на экране.
+     * Ждём простоя приложения, затем проверяем, что открылась нужная страница и есть строка формы.
      */
     public void waitOpened() {
+        AngularStability.waitIdle(page, dictionaryKeyInputs().first());
         assertThat(pageTitle).hasText("Create Payment Dictionary Items");
-
-        // Первая строка: Dictionary Key input должен стать видимым
-        dictionaryKeyInputs()
-                .first()
-                .waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE));
+        assertThat(dictionaryKeyInputs().first()).isVisible();
     }
 
     // ===== Локаторы строк (по индексам) =====
@@ -95,11 +101,6 @@ public class CreatePaymentDictionaryPage {
         );
     }
 
-    // Панель выпадающего списка mat-select (когда Language открыт)
-    private Locator visibleSelectPanel() {
-        return page.locator("div.mat-mdc-select-panel:visible, div.mat-mdc-select-panel:visible").first();
-    }
-
     // ===== Публичные методы (действия) =====
 
     public int rowsCount() {
@@ -107,7 +108,7 @@ public class CreatePaymentDictionaryPage {
     }
 
     public void clickSave() {
-        saveButton.click();
+        PerfTimeline.time("dictionaryCreate.clickSave", () -> saveButton.click());
     }
 
     /**
@@ -147,21 +148,8 @@ public class CreatePaymentDictionaryPage {
      * На скрине опции: Armenian / English / Russian.
      */
     public void selectLanguage(int rowIndex, String language) {
-        // Открываем mat-select
-        languageSelects().nth(rowIndex).click();
-
-        // Ждём панель
-        Locator panel = visibleSelectPanel();
-        panel.waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE));
-
-        // В mat-select опции обычно имеют role=option
-        panel.getByRole(
-                AriaRole.OPTION,
-                new Locator.GetByRoleOptions().setName(language).setExact(true)
-        ).click();
-
-        // Панель должна закрыться
-        panel.waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.HIDDEN));
+        MatSelect select = new MatSelect(page, languageSelects().nth(rowIndex));
+        PerfTimeline.time("dictionaryCreate.selectLanguage", () -> select.select(language));
     }
 
     /**
@@ -174,14 +162,78 @@ public class CreatePaymentDictionaryPage {
         fillValue(rowIndex, value);
     }
 
+    /**
+     * Допечатать текст в Value строки настоящими нажатиями клавиш (замер отзывчивости формы).
+     */
+    public void typeIntoValue(int rowIndex, String text) {
+        valueInputs().nth(rowIndex).pressSequentially(text);
+    }
+
+    // ===== Пакетное заполнение (сотни строк) =====
+
+    /**
+     * Добавить count строк одним evaluate (клики по "+ Add Dictionary" в браузере) и дождаться их.
+     */
+    public void addRows(int count) {
+        if (count <= 0) return;
+
+        int before = rowsCount();
+        Object clicked = page.evaluate(DictionaryFormScripts.CLICK_TIMES_SCRIPT, List.of("Add Dictionary", count));
+        if (!Boolean.TRUE.equals(clicked)) {
+            throw new IllegalStateException("'Add Dictionary' button not found");
+        }
+        waitRowsCount(before + count, 10_000);
+    }
+
+    /**
+     * Заполнить строки формы начиная с первой (недостающие строки добавляются).
+     * Текстовые поля всех строк пишутся одним evaluate с событиями input/blur (валидаторы Angular
+     * отрабатывают), языки — вторым evaluate через панели селектов (строки с нужным языком пропускаются;
+     * замер — "dictionaryCreate.fillLanguages"). Что не выбралось — MatSelect по строке.
+     */
+    public void fillRows(List<DictionaryFormRow> rows) {
+        PerfTimeline.time("dictionaryCreate.fillRows", () -> {
+            addRows(rows.size() - rowsCount());
+
+            List<List<Object>> cells = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                DictionaryFormRow row = rows.get(i);
+                cells.add(List.of(DictionaryFormScripts.KEY, i, row.dictionaryKey()));
+                cells.add(List.of(DictionaryFormScripts.ENTRY_ID, i, row.entryId()));
+                cells.add(List.of(DictionaryFormScripts.VALUE, i, row.value()));
+            }
+            int missing = ((Number) page.evaluate(DictionaryFormScripts.SET_VALUES_SCRIPT, cells)).intValue();
+            if (missing > 0) {
+                throw new IllegalStateException(missing + " form fields not found while filling " + rows.size() + " rows");
+            }
+
+            fillLanguages(rows.stream().map(DictionaryFormRow::language).toList());
+        });
+    }
+
+    private void fillLanguages(List<String> languages) {
+        PerfTimeline.time("dictionaryCreate.fillLanguages", () -> {
+            Map<?, ?> result = (Map<?, ?>) page.evaluate(DictionaryFormScripts.SELECT_OPTIONS_SCRIPT, languages);
+            for (Object failed : (List<?>) result.get("failed")) {
+                int row = ((Number) failed).intValue();
+                new MatSelect(page, languageSelects().nth(row)).select(languages.get(row));
+            }
+        });
+    }
+
     // ===== Внутренние ожидания =====
 
+    /**
+     * Строка формы добавляется/удаляется в том же change detection, что и клик, — после простоя
+     * количество уже окончательное, опрашивать не нужно. Простоя не дождались — ждём само количество.
+     */
     private void waitRowsCount(int expected, int timeoutMs) {
-        long end = System.currentTimeMillis() + timeoutMs;
-        while (System.currentTimeMillis() < end) {
-            if (rowsCount() == expected) return;
-            page.waitForTimeout(100);
+        if (!AngularStability.waitIdle(page, timeoutMs).stable()) {
+            assertThat(dictionaryKeyInputs()).hasCount(expected, new LocatorAssertions.HasCountOptions().setTimeout(timeoutMs));
+            return;
         }
+        if (rowsCount() == expected) return;
+
         throw new IllegalStateException(
                 "Rows count did not reach expected value. Expected=" + expected + ", actual=" + rowsCount()
         );
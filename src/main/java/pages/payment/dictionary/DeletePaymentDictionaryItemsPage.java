@@ -1,8 +1,9 @@
 package pages.payment.dictionary;
 
+import baseUtils.browser.AngularStability;
+import baseUtils.browser.DomState;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
-import com.microsoft.playwright.options.WaitForSelectorState;
 
 import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
 
@@ -17,6 +18,10 @@ public class DeletePaymentDictionaryItemsPage {
 
     private final Locator emptyState;
 
+    // один селектор и для Locator'а, и для ожидания количества в браузере
+    private static final String ROWS_CSS = "app-dictionary-delete table tbody tr";
+    private static final DomState.Query ROWS = DomState.Query.css(ROWS_CSS);
+
     public DeletePaymentDictionaryItemsPage(Page page) {
         this.page = page;
 
@@ -27,13 +32,16 @@ public class DeletePaymentDictionaryItemsPage {
 
         // таблица выбранных элементов (на странице удаления)
         this.table = page.locator("app-dictionary-delete table[role='table'], app-dictionary-delete table").first();
-        this.rows = table.locator("tbody tr.mat-mdc-row, tbody tr[role='row'], tbody tr");
+        this.rows = page.locator(ROWS_CSS);
 
         // empty state "No available dictionaries"
         this.emptyState = page.locator("app-dictionary-delete:has-text('No available dictionaries')").first();
+
+        AngularStability.install(page);
     }
 
     public void waitOpened() {
+        AngularStability.waitIdle(page, table);
         assertThat(pageTitle).hasText("Delete Payment Dictionary Items");
         assertThat(table).isVisible();
     }
@@ -42,27 +50,30 @@ public class DeletePaymentDictionaryItemsPage {
         return (int) rows.count();
     }
 
+    /**
+     * Дождаться, что в таблице удаления ровно expected строк (ожидание в браузере, без опроса).
+     */
+    public void waitRowsCount(int expected, long timeoutMs) {
+        int actual = DomState.awaitCount(page, ROWS, expected, timeoutMs).count();
+        if (actual != expected) {
+            throw new AssertionError("Delete page rows: expected " + expected + ", actual " + actual + " after " + timeoutMs + "ms");
+        }
+    }
+
     public void clickDelete() {
         waitEnabled(deleteButton, 7_000);
         deleteButton.click();
     }
 
     public void waitEmptyState() {
-        emptyState.waitFor(new Locator.WaitForOptions()
-                .setState(WaitForSelectorState.VISIBLE)
-                .setTimeout(10_000));
+        AngularStability.waitIdle(page, emptyState);
         assertThat(emptyState).containsText("No available dictionaries");
     }
 
     // ===== util =====
     private void waitEnabled(Locator button, long timeoutMs) {
-        long end = System.currentTimeMillis() + timeoutMs;
-        while (System.currentTimeMillis() < end) {
-            try {
-                if (button.isVisible() && button.isEnabled()) return;
-            } catch (Exception ignored) {}
-            page.waitForTimeout(100);
-        }
+        if (DomState.awaitEnabled(button, timeoutMs).visibleAndEnabled()) return;
+
         throw new AssertionError("Button was not enabled within " + timeoutMs + "ms");
     }
 }
@@ -0,0 +1,7 @@
+package pages.payment.dictionary;
+
+/**
+ * Одна строка формы Create/Edit Payment Dictionary Items (как её видит оператор).
+ * language — текст опции mat-select (Armenian / English / Russian).
+ */
+public record DictionaryFormRow(String dictionaryKey, String language, String entryId, String value) {}
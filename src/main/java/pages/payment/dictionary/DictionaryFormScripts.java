@@ -0,0 +1,156 @@
+package pages.payment.dictionary;
+
+/**
+ * Браузерные скрипты формы словаря (app-dictionary-create-edit — общая для Create и Edit):
+ * поиск полей строк по подписи mat-form-field и запись значений пачкой с событиями,
+ * которые слушает Angular (input — значение в FormControl, blur — touched и валидаторы).
+ */
+final class DictionaryFormScripts {
+
+    static final String KEY = "Dictionary Key";
+    static final String ENTRY_ID = "Dictionary Entry ID";
+    static final String VALUE = "Value";
+    static final String LANGUAGE = "Language";
+
+    // (labels) -> { label: [input|textarea|mat-select по строкам] }; подпись сравнивается по началу ("Value*" -> Value)
+    private static final String FIELDS_FN = """
+            (labels) => {
+              const root = document.querySelector('app-dictionary-create-edit') || document;
+              const norm = (s) => (s || '').replace(/\\s+/g, ' ').trim().toLowerCase();
+              const fields = {};
+              for (const label of labels) fields[label] = [];
+              for (const field of root.querySelectorAll('mat-form-field')) {
+                const caption = norm((field.querySelector('mat-label, label') || {}).textContent);
+                const control = field.querySelector('mat-select, input, textarea');
+                if (!control) continue;
+                const label = labels.find((l) => caption.startsWith(norm(l)));
+                if (label) fields[label].push(control);
+              }
+              return fields;
+            }
+            """;
+
+    /**
+     * cells: [[label, rowIndex, value], ...] -> сколько ячеек не нашлось (0 — всё записано).
+     */
+    static final String SET_VALUES_SCRIPT = """
+            (cells) => {
+              const fields = (__FIELDS__)([...new Set(cells.map((c) => c[0]))]);
+              const setters = {
+                INPUT: Object.getOwnPropertyDescriptor(HTMLInputElement.prototype, 'value').set,
+                TEXTAREA: Object.getOwnPropertyDescriptor(HTMLTextAreaElement.prototype, 'value').set
+              };
+              let missing = 0;
+              for (const [label, index, value] of cells) {
+                const el = fields[label][index];
+                if (!el) { missing++; continue; }
+                setters[el.tagName].call(el, value);
+                el.dispatchEvent(new Event('input', { bubbles: true }));
+                el.dispatchEvent(new Event('change', { bubbles: true }));
+                el.dispatchEvent(new FocusEvent('blur'));
+                el.dispatchEvent(new FocusEvent('focusout', { bubbles: true }));
+              }
+              return missing;
+            }
+            """.replace("__FIELDS__", FIELDS_FN.strip());
+
+    /**
+     * () -> [{dictionaryKey, language, entryId, value}, ...] по строкам формы. Поля, которых в форме нет, — null.
+     */
+    static final String SNAPSHOT_SCRIPT = """
+            () => {
+              const labels = ['Dictionary Key', 'Language', 'Dictionary Entry ID', 'Value'];
+              const fields = (__FIELDS__)(labels);
+              const read = (el) => {
+                if (!el) return null;
+                if (el.tagName === 'MAT-SELECT') {
+                  const text = el.querySelector('.mat-mdc-select-value-text, .mat-select-value-text');
+                  return (text ? text.textContent : '').trim();
+                }
+                return el.value.trim();
+              };
+              const count = Math.max(...labels.map((l) => fields[l].length));
+              const rows = [];
+              for (let i = 0; i < count; i++) {
+                rows.push({
+                  dictionaryKey: read(fields['Dictionary Key'][i]),
+                  language: read(fields['Language'][i]),
+                  entryId: read(fields['Dictionary Entry ID'][i]),
+                  value: read(fields['Value'][i])
+                });
+              }
+              return rows;
+            }
+            """.replace("__FIELDS__", FIELDS_FN.strip());
+
+    /**
+     * [option|null по строкам] -> {changed, failed: [rowIndex...]}: выбрать опции в mat-select Language
+     * всех строк одним evaluate — открыть панель кликом по триггеру, кликнуть опцию по тексту.
+     * Строки, где опция уже выбрана (или null), не трогаются — лишний выбор = лишний valueChange.
+     * failed — строки, где в триггере в итоге не то значение (добрать по одной через MatSelect).
+     */
+    static final String SELECT_OPTIONS_SCRIPT = """
+            async (options) => {
+              const selects = (__FIELDS__)(['Language'])['Language'];
+              const norm = (s) => (s || '').replace(/\\s+/g, ' ').trim().toLowerCase();
+              const valueOf = (host) => {
+                const text = host.querySelector('.mat-mdc-select-value-text, .mat-select-value-text');
+                return norm(text ? text.textContent : '');
+              };
+              const frame = () => new Promise((resolve) => requestAnimationFrame(() => resolve()));
+              const openPanel = async (host) => {
+                (host.querySelector('.mat-mdc-select-trigger, .mat-select-trigger') || host).click();
+                for (let i = 0; i < 30; i++) {
+                  await frame();
+                  const id = host.getAttribute('aria-controls');
+                  const panel = id && document.getElementById(id);
+                  if (panel) return panel;
+                }
+                return null;
+              };
+
+              let changed = 0;
+              for (let i = 0; i < options.length; i++) {
+                const want = options[i];
+                const host = selects[i];
+                if (want == null || !host || valueOf(host) === norm(want)) continue;
+
+                const panel = await openPanel(host);
+                const option = panel && Array.from(panel.querySelectorAll('mat-option, [role="option"]')).find((o) =>
+                  norm((o.querySelector('.mdc-list-item__primary-text, .mat-option-text') || o).textContent) === norm(want));
+                if (option) {
+                  option.click();
+                  changed++;
+                } else if (panel) {
+                  const backdrop = document.querySelector('.cdk-overlay-backdrop');
+                  if (backdrop) backdrop.click();
+                }
+                await frame();
+              }
+
+              const failed = [];
+              for (let i = 0; i < options.length; i++) {
+                if (options[i] == null) continue;
+                if (!selects[i] || valueOf(selects[i]) !== norm(options[i])) failed.push(i);
+              }
+              return { changed, failed };
+            }
+            """.replace("__FIELDS__", FIELDS_FN.strip());
+
+    /**
+     * [buttonText, times] -> кликнуть кнопку times раз подряд в одном таске (обработчики Angular
+     * отрабатывают синхронно, change detection — после каждого клика). Возвращает false, если кнопки нет.
+     */
+    static final String CLICK_TIMES_SCRIPT = """
+            ([buttonText, times]) => {
+              const norm = (s) => (s || '').replace(/\\s+/g, ' ').trim().toLowerCase();
+              const button = Array.from(document.querySelectorAll('button'))
+                .find((b) => norm(b.textContent).includes(norm(buttonText)));
+              if (!button) return false;
+              for (let i = 0; i < times; i++) button.click();
+              return true;
+            }
+            """;
+
+    private DictionaryFormScripts() {}
+}
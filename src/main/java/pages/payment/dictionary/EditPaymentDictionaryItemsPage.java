@@ -1,8 +1,16 @@
 package pages.payment.dictionary;
 
+import baseUtils.browser.AngularStability;
+import baseUtils.browser.DomState;
+import baseUtils.perf.PerfTimeline;
 import com.microsoft.playwright.*;
 import com.microsoft.playwright.options.AriaRole;
+import pages.components.MatSelect;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
@@ -29,19 +37,17 @@ public class EditPaymentDictionaryItemsPage {
                         "mat-form-field:has-text('Value') textarea"
         );
 
-        // mat-select обычно даёт role=combobox
-        this.languageComboboxes = page.locator(
-                "mat-form-field:has-text('Language') [role='combobox'], " +
-                        "mat-form-field:has-text('Language') mat-select"
-        );
+        this.languageComboboxes = page.locator("mat-form-field:has-text('Language') mat-select");
 
         this.saveButton = page.getByRole(AriaRole.BUTTON, new Page.GetByRoleOptions().setName("Save"));
+
+        AngularStability.install(page);
     }
 
     public void waitOpened() {
         // заголовок может быть "Edit Payment Dictionary items"
         Locator header = page.locator("app-page-title h3.page-title, h3.page-title").first();
-        header.waitFor(new Locator.WaitForOptions().setTimeout(10_000));
+        AngularStability.waitIdle(page, header);
         assertThat(header).containsText("Edit");
     }
 
@@ -51,16 +57,8 @@ public class EditPaymentDictionaryItemsPage {
     }
 
     public void setRowLanguage(int rowIndex, String language) {
-        Locator cb = languageComboboxes.nth(rowIndex);
-        cb.scrollIntoViewIfNeeded();
-        cb.click();
-
-        Locator option = page.locator("mat-option, [role='option']")
-                .filter(new Locator.FilterOptions().setHasText(language))
-                .first();
-
-        option.waitFor(new Locator.WaitForOptions().setTimeout(10_000));
-        option.click();
+        MatSelect select = new MatSelect(page, languageComboboxes.nth(rowIndex));
+        PerfTimeline.time("dictionaryEdit.setRowLanguage", () -> select.select(language));
     }
 
     public void setRowEntryId(int rowIndex, String entryId) {
@@ -78,32 +76,100 @@ public class EditPaymentDictionaryItemsPage {
     }
 
     public String getRowEntryId(int rowIndex) {
-        return entryIdInputs.nth(rowIndex).inputValue().trim();
+        return snapshot().get(rowIndex).entryId();
     }
 
     public String getRowValue(int rowIndex) {
-        return valueInputs.nth(rowIndex).inputValue().trim();
+        return snapshot().get(rowIndex).value();
     }
 
     public String getRowLanguage(int rowIndex) {
-        // часто text внутри combobox содержит выбранное значение
-        return languageComboboxes.nth(rowIndex).innerText().trim();
+        return snapshot().get(rowIndex).language();
+    }
+
+    // ===== Снимок формы и запись только отличий =====
+
+    /**
+     * Все строки формы одним evaluate (значения trim; поля, которых на форме нет, — null).
+     */
+    public List<DictionaryFormRow> snapshot() {
+        List<?> raw = (List<?>) page.evaluate(DictionaryFormScripts.SNAPSHOT_SCRIPT);
+
+        List<DictionaryFormRow> rows = new ArrayList<>();
+        for (Object o : raw) {
+            Map<?, ?> m = (Map<?, ?>) o;
+            rows.add(new DictionaryFormRow((String) m.get("dictionaryKey"), (String) m.get("language"),
+                    (String) m.get("entryId"), (String) m.get("value")));
+        }
+        return rows;
+    }
+
+    /**
+     * Привести строки формы к desired (по индексу; null в поле — не трогать). Снимок -> запись только
+     * отличающихся полей (текст — одним evaluate, язык — MatSelect) -> проверочный снимок.
+     * Возвращает, сколько полей пришлось изменить.
+     */
+    public int applyRows(List<DictionaryFormRow> desired) {
+        return PerfTimeline.time("dictionaryEdit.applyRows", () -> {
+            List<DictionaryFormRow> current = snapshot();
+            if (current.size() < desired.size()) {
+                throw new IllegalStateException("Edit form has " + current.size() + " rows, desired " + desired.size());
+            }
+
+            List<List<Object>> cells = new ArrayList<>();
+            Map<Integer, String> languages = new LinkedHashMap<>();
+            for (int i = 0; i < desired.size(); i++) {
+                DictionaryFormRow want = desired.get(i);
+                DictionaryFormRow have = current.get(i);
+
+                if (differs(want.dictionaryKey(), have.dictionaryKey())) cells.add(List.of(DictionaryFormScripts.KEY, i, want.dictionaryKey()));
+                if (differs(want.entryId(), have.entryId())) cells.add(List.of(DictionaryFormScripts.ENTRY_ID, i, want.entryId()));
+                if (differs(want.value(), have.value())) cells.add(List.of(DictionaryFormScripts.VALUE, i, want.value()));
+                if (want.language() != null && !want.language().equalsIgnoreCase(have.language())) languages.put(i, want.language());
+            }
+
+            if (!cells.isEmpty()) {
+                int missing = ((Number) page.evaluate(DictionaryFormScripts.SET_VALUES_SCRIPT, cells)).intValue();
+                if (missing > 0) {
+                    throw new IllegalStateException(missing + " edit form fields not found");
+                }
+            }
+            languages.forEach((row, language) -> new MatSelect(page, languageComboboxes.nth(row)).select(language));
+
+            verify(desired, snapshot());
+            return cells.size() + languages.size();
+        });
+    }
+
+    private static boolean differs(String want, String have) {
+        return want != null && !want.trim().equals(have);
+    }
+
+    private static void verify(List<DictionaryFormRow> desired, List<DictionaryFormRow> actual) {
+        List<String> mismatches = new ArrayList<>();
+        for (int i = 0; i < desired.size(); i++) {
+            DictionaryFormRow want = desired.get(i);
+            DictionaryFormRow have = actual.get(i);
+
+            if (differs(want.dictionaryKey(), have.dictionaryKey())) mismatches.add("row " + i + " key=" + have.dictionaryKey());
+            if (differs(want.entryId(), have.entryId())) mismatches.add("row " + i + " entryId=" + have.entryId());
+            if (differs(want.value(), have.value())) mismatches.add("row " + i + " value=" + have.value());
+            if (want.language() != null && !want.language().equalsIgnoreCase(have.language())) mismatches.add("row " + i + " language=" + have.language());
+        }
+        if (!mismatches.isEmpty()) {
+            throw new IllegalStateException("Edit form did not take desired values: " + mismatches);
+        }
     }
 
     public void clickSaveAndWaitList(Pattern listUrlPattern) {
         waitUntilEnabled(saveButton, 10_000);
-        saveButton.click();
+        PerfTimeline.time("dictionaryEdit.clickSave", () -> saveButton.click());
 //        page.waitForURL(listUrlPattern, new Page.WaitForURLOptions().setTimeout(15_000));
     }
 
-    private void waitUntilEnabled(Locator locator, long timeoutMs) {
-        long end = System.currentTimeMillis() + timeoutMs;
-        while (System.currentTimeMillis() < end) {
-            try {
-                if (locator.isVisible() && locator.isEnabled()) return;
-            } catch (Exception ignored) {}
-            page.waitForTimeout(100);
-        }
+    private void waitUntilEnabled(Locator element, long timeoutMs) {
+        if (DomState.awaitEnabled(element, timeoutMs).visibleAndEnabled()) return;
+
         throw new AssertionError("Element did not become enabled in " + timeoutMs + "ms");
     }
 }
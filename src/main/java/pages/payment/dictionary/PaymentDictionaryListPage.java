@@ -1,8 +1,21 @@
 package pages.payment.dictionary;
 
+import baseUtils.browser.AngularStability;
+import baseUtils.browser.DomState;
+import baseUtils.perf.LoadTimingProbe;
+import baseUtils.perf.PageLoadTiming;
+import baseUtils.perf.PerfTimeline;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Response;
 import com.microsoft.playwright.options.WaitForSelectorState;
+import pages.components.MatSelect;
+import pages.mainPage.MenuBarPage;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
 
@@ -18,6 +31,24 @@ public class PaymentDictionaryListPage {
     private final Locator table;
     private final Locator rows;
 
+    // [entryId...] -> entryId, которых нет на странице; чекбоксы найденных строк отмечаются кликом
+    private static final String SELECT_ROWS_SCRIPT = """
+            (entryIds) => {
+              const wanted = new Set(entryIds);
+              const found = new Set();
+              const table = document.querySelector("main table[role='table'], table[role='table']");
+              for (const row of table ? table.querySelectorAll('tbody tr') : []) {
+                const cell = row.querySelector('td.mat-column-entryId, td.cdk-column-entryId');
+                const id = cell ? cell.textContent.trim() : null;
+                if (!id || !wanted.has(id)) continue;
+                found.add(id);
+                const box = row.querySelector("mat-checkbox input[type='checkbox'], input[type='checkbox']");
+                if (box && !box.checked) box.click();
+              }
+              return entryIds.filter((id) => !found.has(id));
+            }
+            """;
+
     public PaymentDictionaryListPage(Page page) {
         this.page = page;
 
@@ -36,11 +67,26 @@ public class PaymentDictionaryListPage {
 
         this.table = page.locator("main table[role='table'], table[role='table']").first();
         this.rows = table.locator("tbody tr.mat-mdc-row, tbody tr[role='row'], tbody tr");
+
+        AngularStability.install(page);
     }
 
+    /**
+     * Ждём простоя приложения, проверяем заголовок и таблицу.
+     */
     public void waitOpened() {
+        AngularStability.waitIdle(page, table);
         assertThat(pageTitle).hasText("Payment Dictionary List");
         assertThat(table).isVisible();
+        PerfTimeline.routeReady(MenuBarPage.ROUTE_PAYMENT_DICTIONARY);
+    }
+
+    /**
+     * Фазы последней загрузки списка (commit / данные / первая / последняя строка) — только для замеров:
+     * ждёт, пока строки перестанут меняться, и нужна LoadTimingProbe.install(context) до навигации.
+     */
+    public PageLoadTiming loadTiming() {
+        return LoadTimingProbe.collect(page, MenuBarPage.ROUTE_PAYMENT_DICTIONARY, 300, 5_000);
     }
 
     public void clickCreate() {
@@ -84,24 +130,87 @@ public class PaymentDictionaryListPage {
         }
 
         checkbox.scrollIntoViewIfNeeded();
-        checkbox.click(new Locator.ClickOptions().setForce(true));
+
+        Locator target = checkbox;
+        PerfTimeline.time("dictionaryList.selectRow", () -> target.click(new Locator.ClickOptions().setForce(true)));
+    }
+
+    // ===== Пакетный выбор =====
+
+    /**
+     * Отметить чекбоксы строк с этими entryId одним evaluate (уже отмеченные не трогаем).
+     * Работает по строкам текущей страницы таблицы; возвращает entryId, которых на ней не нашлось.
+     */
+    public List<String> selectRowsByEntryIds(Collection<String> entryIds) {
+        return PerfTimeline.time("dictionaryList.selectRows", () -> {
+            List<?> missing = (List<?>) page.evaluate(SELECT_ROWS_SCRIPT, new ArrayList<>(entryIds));
+            return missing.stream().map(String::valueOf).toList();
+        });
+    }
+
+    /**
+     * Чекбокс в заголовке таблицы — все строки текущей страницы. На общем стенде выбирает и чужие данные,
+     * в сценариях удаления использовать только вместе с фильтром/своими данными.
+     */
+    public void selectAll() {
+        Locator headerCheckbox = table.locator("thead mat-checkbox, thead [role='checkbox'], thead input[type='checkbox']").first();
+        PerfTimeline.time("dictionaryList.selectAll", () -> headerCheckbox.click(new Locator.ClickOptions().setForce(true)));
+    }
+
+    public int selectedRowsCount() {
+        return DomState.read(rows.locator("input[type='checkbox']:checked")).count();
+    }
+
+    /**
+     * Максимальный размер страницы в mat-paginator (последняя опция) и дождаться перезагрузки данных.
+     * Возвращает выбранный размер (текст опции).
+     */
+    public String setMaxPageSize() {
+        String size = new MatSelect(page, page.locator("mat-paginator mat-select").first()).selectLast();
+        AngularStability.waitIdle(page, rows.first());
+        return size;
+    }
+
+    /**
+     * Следующая страница mat-paginator и дождаться перерисовки. Возвращает время клик -> простой, мс
+     * (-1 — кнопка неактивна, страница последняя).
+     */
+    public long nextPage() {
+        Locator next = page.locator("mat-paginator button.mat-mdc-paginator-navigation-next, mat-paginator button.mat-paginator-navigation-next").first();
+        if (next.isDisabled()) return -1;
+
+        return PerfTimeline.time("dictionaryList.nextPage", () -> {
+            long start = System.nanoTime();
+            next.click();
+            AngularStability.waitIdle(page, rows.first());
+            return (System.nanoTime() - start) / 1_000_000;
+        });
+    }
+
+    /**
+     * Открыть список через open и вернуть путь (+query) GET-запроса данных словаря, который сделал сам UI, —
+     * для чтения того же списка через API (эндпоинт зависит от стенда).
+     */
+    public String captureListRequestPath(Runnable open) {
+        Response response = page.waitForResponse(
+                r -> "GET".equals(r.request().method()) && r.url().contains("/CommunicationDictionary/"),
+                open
+        );
+        URI uri = URI.create(response.url());
+        return uri.getRawPath() + (uri.getRawQuery() != null ? "?" + uri.getRawQuery() : "");
     }
 
     // ===== Delete selected =====
 
     public void clickDeleteSelected() {
         waitEnabled(deleteSelectedButton, 7_000);
-        deleteSelectedButton.click();
+        PerfTimeline.time("dictionaryList.clickDeleteSelected", () -> deleteSelectedButton.click());
     }
 
     // ===== Edit selected =====
 
     public boolean isEditSelectedEnabled() {
-        try {
-            return editSelectedButton.isVisible() && editSelectedButton.isEnabled();
-        } catch (Exception e) {
-            return false;
-        }
+        return DomState.read(editSelectedButton).visibleAndEnabled();
     }
 
     public void waitEditSelectedEnabled(long timeoutMs) {
@@ -110,7 +219,7 @@ public class PaymentDictionaryListPage {
 
     public void clickEditSelected() {
         waitEnabled(editSelectedButton, 7_000);
-        editSelectedButton.click();
+        PerfTimeline.time("dictionaryList.clickEditSelected", () -> editSelectedButton.click());
     }
 
     // ===== Удаление через иконку мусорки =====
@@ -148,13 +257,8 @@ public class PaymentDictionaryListPage {
     // ===== util =====
 
     private void waitEnabled(Locator button, long timeoutMs) {
-        long end = System.currentTimeMillis() + timeoutMs;
-        while (System.currentTimeMillis() < end) {
-            try {
-                if (button.isVisible() && button.isEnabled()) return;
-            } catch (Exception ignored) {}
-            page.waitForTimeout(100);
-        }
+        if (DomState.awaitEnabled(button, timeoutMs).visibleAndEnabled()) return;
+
         throw new AssertionError("Button was not enabled within " + timeoutMs + "ms");
     }
 
@@ -170,4 +274,13 @@ public class PaymentDictionaryListPage {
         String idText = row.locator("td.mat-column-id, td.cdk-column-id").first().innerText().trim();
         return Integer.parseInt(idText);
     }
+
+    public String getValueByEntryId(String entryId) {
+        Locator row = rowByEntryId(entryId);
+        row.waitFor(new Locator.WaitForOptions()
+                .setState(WaitForSelectorState.VISIBLE)
+                .setTimeout(15_000));
+
+        return row.locator("td.mat-column-value, td.cdk-column-value").first().innerText().trim();
+    }
 }
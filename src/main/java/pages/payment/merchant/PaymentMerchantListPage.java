@@ -1,14 +1,22 @@
 package pages.payment.merchant;
 
+import baseUtils.browser.AngularStability;
+import baseUtils.crawl.RowActions;
+import baseUtils.perf.LoadTimingProbe;
+import baseUtils.perf.PageLoadTiming;
+import baseUtils.perf.PerfTimeline;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.options.AriaRole;
 import com.microsoft.playwright.options.WaitForSelectorState;
 import io.qameta.allure.Step;
+import pages.mainPage.MenuBarPage;
 
 import java.util.List;
 
-public class PaymentMerchantListPage {
+import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
+
+public class PaymentMerchantListPage implements RowActions {
     private final Page page;
 
     // ===== Локаторы страницы =====
@@ -36,6 +44,29 @@ public class PaymentMerchantListPage {
                 AriaRole.BUTTON,
                 new Page.GetByRoleOptions().setName("Create").setExact(true)
         );
+
+        AngularStability.install(page);
+    }
+
+    // ===== Ожидания =====
+
+    /**
+     * Список открыт: приложение простаивает, заголовок и таблица на месте.
+     */
+    @Override
+    @Step("Wait Payment Merchant List opened")
+    public void waitOpened() {
+        AngularStability.waitIdle(page, table);
+        assertThat(pageTitle).hasText("Payment Merchant List");
+        assertThat(table).isVisible();
+        PerfTimeline.routeReady(MenuBarPage.ROUTE_PAYMENT_MERCHANT);
+    }
+
+    /**
+     * Фазы последней загрузки списка — только для замеров (см. PaymentDictionaryListPage.loadTiming).
+     */
+    public PageLoadTiming loadTiming() {
+        return LoadTimingProbe.collect(page, MenuBarPage.ROUTE_PAYMENT_MERCHANT, 300, 5_000);
     }
 
     // ===== Таблица (универсально по mat-column-<key>) =====
@@ -66,12 +97,11 @@ public class PaymentMerchantListPage {
 
     /**
      * Тексты из колонки.
-     * Перед чтением ждём, что первая ячейка стала видимой => данные подгрузились.
+     * Перед чтением ждём простоя приложения => данные подгрузились и отрисованы; и первую ячейку колонки.
      */
     public List<String> columnTexts(String columnKey) {
-        columnCells(columnKey)
-                .first()
-                .waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE));
+        AngularStability.waitIdle(page);
+        columnCells(columnKey).first().waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE));
 
         return columnCells(columnKey)
                 .allTextContents()
@@ -139,14 +169,17 @@ public class PaymentMerchantListPage {
     /**
      * Открыть actions-меню для строки и дождаться, что меню реально показалось.
      */
+    @Override
     @Step("Open actions menu for row #{rowIndex}")
     public void openActionsMenu(int rowIndex) {
         Locator row = rowByIndex(rowIndex);
 
-        kebabMenuButton(row).click();
+        PerfTimeline.time("merchant.openActionsMenu", () -> {
+            kebabMenuButton(row).click();
 
-        // ждём появление меню
-        visibleMenuPanel().waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE));
+            // ждём появление меню
+            visibleMenuPanel().waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE));
+        });
     }
 
     // ===== Клики по кнопкам/пунктам =====
@@ -206,4 +239,33 @@ public class PaymentMerchantListPage {
         openActionsMenu(rowIndex);
         menuItemByNameExact("Edit certificate").click();
     }
+
+    // ===== Обход всех действий строки (RowActionsCrawler) =====
+
+    @Override
+    public Locator actionsMenuPanel() {
+        return visibleMenuPanel();
+    }
+
+    @Override
+    public Locator actionsCell(int rowIndex) {
+        return actionsCell(rowByIndex(rowIndex));
+    }
+
+    @Override
+    @Step("Actions menu -> {name} (row #{rowIndex})")
+    public void clickActionsMenuItem(int rowIndex, String name) {
+        openActionsMenu(rowIndex);
+        menuItemByNameExact(name).click();
+    }
+
+    @Override
+    @Step("Actions -> icon {ariaLabel} (row #{rowIndex})")
+    public void clickActionIcon(int rowIndex, String ariaLabel) {
+        Locator row = rowByIndex(rowIndex);
+
+        actionsCell(row).waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE));
+
+        actionsCell(row).locator("button:has(mat-icon[aria-label='" + ariaLabel + "'])").first().click();
+    }
 }
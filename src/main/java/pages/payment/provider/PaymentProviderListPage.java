@@ -1,14 +1,22 @@
 package pages.payment.provider;
 
+import baseUtils.browser.AngularStability;
+import baseUtils.crawl.RowActions;
+import baseUtils.perf.LoadTimingProbe;
+import baseUtils.perf.PageLoadTiming;
+import baseUtils.perf.PerfTimeline;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.options.AriaRole;
 import com.microsoft.playwright.options.WaitForSelectorState;
+import pages.mainPage.MenuBarPage;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
-public class PaymentProviderListPage {
+import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
+
+public class PaymentProviderListPage implements RowActions {
     private final Page page;
 
     // ===== Локаторы (общие) =====
@@ -24,6 +32,8 @@ public class PaymentProviderListPage {
         // ===== Инициализация локаторов =====
         this.table = page.locator("app-provider-list table[role='table']");
         this.createButton = page.locator("app-provider-list button:has-text('Create')");
+
+        AngularStability.install(page);
     }
 
     // ===== Приватные хелперы (таблица/строки/экшены) =====
@@ -74,12 +84,35 @@ public class PaymentProviderListPage {
     }
 
     // Открыть edit-меню для строки и дождаться появления меню
-    private void openEditMenuByRowIndex(int rowIndex) {
+    @Override
+    public void openActionsMenu(int rowIndex) {
         Locator row = rowByIndex(rowIndex);
-        kebabMenuButton(row).click();
 
-        // Ожидаем, что меню реально открылось
-        visibleMenuPanel().waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE));
+        PerfTimeline.time("provider.openActionsMenu", () -> {
+            kebabMenuButton(row).click();
+
+            // Ожидаем, что меню реально открылось
+            visibleMenuPanel().waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE));
+        });
+    }
+
+    // ===== Ожидания =====
+
+    /**
+     * Список открыт: приложение простаивает (данные пришли, change detection прошёл) и таблица на месте.
+     */
+    @Override
+    public void waitOpened() {
+        AngularStability.waitIdle(page, table);
+        assertThat(table).isVisible();
+        PerfTimeline.routeReady(MenuBarPage.ROUTE_PAYMENT_PROVIDER);
+    }
+
+    /**
+     * Фазы последней загрузки списка — только для замеров (см. PaymentDictionaryListPage.loadTiming).
+     */
+    public PageLoadTiming loadTiming() {
+        return LoadTimingProbe.collect(page, MenuBarPage.ROUTE_PAYMENT_PROVIDER, 300, 5_000);
     }
 
     // ===== Методы (кнопки/меню) =====
@@ -114,40 +147,65 @@ public class PaymentProviderListPage {
 
     // Click "Edit"
     public void clickEdit(int rowIndex) {
-        openEditMenuByRowIndex(rowIndex);
+        openActionsMenu(rowIndex);
         menuItemByText("Edit").click();
     }
 
     // Click "Edit external connections"
     public void clickEditExternalConnections(int rowIndex) {
-        openEditMenuByRowIndex(rowIndex);
+        openActionsMenu(rowIndex);
         menuItemByText("Edit external connections").click();
     }
 
     // Click "Edit accounts"
     public void clickEditAccounts(int rowIndex) {
-        openEditMenuByRowIndex(rowIndex);
+        openActionsMenu(rowIndex);
         menuItemByText("Edit accounts").click();
     }
 
     // Click "Edit service identifiers"
     public void clickEditServiceIdentifiers(int rowIndex) {
-        openEditMenuByRowIndex(rowIndex);
+        openActionsMenu(rowIndex);
         menuItemByText("Edit service identifiers").click();
     }
 
     // Click "Edit certificate"
     public void clickEditCertificate(int rowIndex) {
-        openEditMenuByRowIndex(rowIndex);
+        openActionsMenu(rowIndex);
         menuItemByText("Edit certificate").click();
     }
 
     // Click "Edit currencies"
     public void clickEditCurrencies(int rowIndex) {
-        openEditMenuByRowIndex(rowIndex);
+        openActionsMenu(rowIndex);
         menuItemByText("Edit currencies").click();
     }
 
+    // ===== Обход всех действий строки (RowActionsCrawler) =====
+
+    @Override
+    public Locator actionsMenuPanel() {
+        return visibleMenuPanel();
+    }
+
+    @Override
+    public Locator actionsCell(int rowIndex) {
+        return actionsCell(rowByIndex(rowIndex));
+    }
+
+    @Override
+    public void clickActionsMenuItem(int rowIndex, String name) {
+        openActionsMenu(rowIndex);
+        menuItemByText(name).click();
+    }
+
+    @Override
+    public void clickActionIcon(int rowIndex, String ariaLabel) {
+        Locator row = rowByIndex(rowIndex);
+        row.scrollIntoViewIfNeeded();
+        actionsCell(row).locator("button.mat-mdc-icon-button:has(mat-icon[aria-label='" + ariaLabel + "'])").click();
+    }
+
     // ===== Методы работы с таблицей =====
 
     /**
@@ -161,13 +219,11 @@ public class PaymentProviderListPage {
 
     /**
      * Возвращает список текстов из указанной колонки.
-     * Перед чтением ждёт, пока появится первая ячейка колонки (значит таблица уже отрисована/заполнена).
+     * Перед чтением ждёт простоя приложения (данные пришли и отрисованы) и первую ячейку колонки.
      */
     public List<String> columnTexts(String columnKey) {
-        // Ожидание появления данных: первая ячейка колонки должна стать видимой
-        columnCells(columnKey)
-                .first()
-                .waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE));
+        AngularStability.waitIdle(page);
+        columnCells(columnKey).first().waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE));
 
         // Получение текстов всех ячеек колонки и очистка пробелов по краям
         return columnCells(columnKey)
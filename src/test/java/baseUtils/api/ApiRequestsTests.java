@@ -0,0 +1,151 @@
+package baseUtils.api;
+
+import com.google.gson.Gson;
+import com.microsoft.playwright.APIRequestContext;
+import com.microsoft.playwright.Playwright;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Cleanup по entryId против локального постраничного списка: сервер режет размер страницы,
+ * нужные записи — не на первой странице.
+ */
+public class ApiRequestsTests {
+
+    private static final Gson GSON = new Gson();
+    private static final int SERVER_MAX_PAGE = 3;
+
+    @Test
+    @DisplayName("deleteDictionariesByEntryIds обходит все страницы списка")
+    void deleteByEntryIds_pagesThroughList() throws IOException {
+        // 10 элементов: id 1..10, entryId 500 + id; удалять будем с последних страниц
+        List<DictionaryItem> items = new ArrayList<>();
+        for (int id = 1; id <= 10; id++) {
+            items.add(new DictionaryItem("ProviderType", 500 + id, 2, "v" + id, 1, id));
+        }
+        List<Integer> deleted = new ArrayList<>();
+        List<String> listRequests = new ArrayList<>();
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/list", exchange -> {
+            listRequests.add(exchange.getRequestURI().toString());
+            Map<String, String> query = query(exchange.getRequestURI());
+            int page = Integer.parseInt(query.get("pageNumber"));
+            int size = Math.min(SERVER_MAX_PAGE, Integer.parseInt(query.get("pageSize")));
+            int from = Math.min(items.size(), (page - 1) * size);
+            respond(exchange, GSON.toJson(Map.of("total", items.size(),
+                    "data", items.subList(from, Math.min(items.size(), from + size)))));
+        });
+        server.createContext("/api/CommunicationDictionary/deleteDictionaries", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            deleted.addAll(Arrays.stream(GSON.fromJson(body, Integer[].class)).toList());
+            respond(exchange, "true");
+        });
+        server.start();
+
+        try (Playwright playwright = Playwright.create()) {
+            String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+            APIRequestContext request = playwright.request().newContext();
+            ApiRequests api = new ApiRequests(request, baseUrl, Map.of());
+
+            int count = api.deleteDictionariesByEntryIds("/api/list?pageNumber=1&pageSize=10", Set.of(504L, 509L, 510L));
+
+            Assertions.assertEquals(3, count);
+            Assertions.assertEquals(Set.of(4, 9, 10), Set.copyOf(deleted));
+            // последняя нужная запись на 4-й странице (по 3) — дальше не ходим
+            Assertions.assertEquals(4, listRequests.size(), String.valueOf(listRequests));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("skip/take: сервер урезает take — ни одна запись не пропускается")
+    void deleteByEntryIds_cappedSkipTake() throws IOException {
+        List<DictionaryItem> items = new ArrayList<>();
+        for (int id = 1; id <= 10; id++) {
+            items.add(new DictionaryItem("ProviderType", 500 + id, 2, "v" + id, 1, id));
+        }
+        List<Integer> deleted = new ArrayList<>();
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/list", exchange -> {
+            Map<String, String> query = query(exchange.getRequestURI());
+            int skip = Math.min(items.size(), Integer.parseInt(query.get("skip")));
+            int take = Math.min(SERVER_MAX_PAGE, Integer.parseInt(query.get("take")));
+            respond(exchange, GSON.toJson(items.subList(skip, Math.min(items.size(), skip + take))));
+        });
+        server.createContext("/api/CommunicationDictionary/deleteDictionaries", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            deleted.addAll(Arrays.stream(GSON.fromJson(body, Integer[].class)).toList());
+            respond(exchange, "true");
+        });
+        server.start();
+
+        try (Playwright playwright = Playwright.create()) {
+            String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+            ApiRequests api = new ApiRequests(playwright.request().newContext(), baseUrl, Map.of());
+
+            Set<Long> all = items.stream().map(DictionaryItem::entryId).collect(Collectors.toSet());
+            Assertions.assertEquals(10, api.deleteDictionariesByEntryIds("/api/list?skip=0&take=10", all));
+            Assertions.assertEquals(10, Set.copyOf(deleted).size());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("Записи нет в списке — возвращается меньше, чем просили")
+    void deleteByEntryIds_reportsMissing() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/list", exchange -> {
+            int page = Integer.parseInt(query(exchange.getRequestURI()).get("pageNumber"));
+            respond(exchange, page == 1 ? GSON.toJson(List.of(new DictionaryItem("ProviderType", 501, 2, "v", 1, 1))) : "[]");
+        });
+        server.createContext("/api/CommunicationDictionary/deleteDictionaries", exchange -> respond(exchange, "true"));
+        server.start();
+
+        try (Playwright playwright = Playwright.create()) {
+            String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+            ApiRequests api = new ApiRequests(playwright.request().newContext(), baseUrl, Map.of());
+
+            Assertions.assertEquals(1, api.deleteDictionariesByEntryIds("/api/list?pageNumber=1&pageSize=10", Set.of(501L, 777L)));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static Map<String, String> query(URI uri) {
+        Map<String, String> params = new HashMap<>();
+        for (String pair : uri.getRawQuery().split("&")) {
+            String[] kv = pair.split("=", 2);
+            params.put(kv[0], kv.length > 1 ? kv[1] : "");
+        }
+        return params;
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package baseUtils.api;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Воркеры пула ходят в API с cookies из storageState браузерного контекста.
+ */
+public class ApiWorkerPoolTests {
+
+    @Test
+    @DisplayName("storageState: cookie сессии уходит с запросами воркеров")
+    void storageState_sendsSessionCookies() throws IOException {
+        List<String> cookies = new CopyOnWriteArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            cookies.add(String.valueOf(exchange.getRequestHeaders().getFirst("Cookie")));
+            byte[] bytes = "true".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+
+        String storageState = """
+                {"cookies": [{"name": "session", "value": "abc", "domain": "127.0.0.1", "path": "/",
+                  "expires": -1, "httpOnly": true, "secure": false, "sameSite": "Lax"}], "origins": []}""";
+
+        try (ApiWorkerPool pool = new ApiWorkerPool(2, "http://127.0.0.1:" + server.getAddress().getPort(), Map.of(), storageState)) {
+            for (int i = 0; i < 4; i++) {
+                pool.submit(api -> api.send("GET", "/ping", null).status()).join();
+            }
+        } finally {
+            server.stop(0);
+        }
+
+        Assertions.assertEquals(4, cookies.size());
+        cookies.forEach(cookie -> Assertions.assertEquals("session=abc", cookie));
+    }
+}
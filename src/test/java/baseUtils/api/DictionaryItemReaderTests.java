@@ -0,0 +1,59 @@
+package baseUtils.api;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Потоковый разбор списка словаря: голый массив и ответы-обёртки.
+ */
+public class DictionaryItemReaderTests {
+
+    private static final String ITEM_1 = """
+            {"id": 11, "keyId": "ProviderType", "entryId": 900001, "langId": 2, "value": "first", "behavior": 1}""";
+    private static final String ITEM_2 = """
+            {"id": 12, "keyId": "ErrorCode", "entryId": 900002, "langId": 3, "value": null, "behavior": 1, "extra": {"a": [1, 2]}}""";
+
+    private static List<DictionaryItem> read(String json) {
+        DictionaryItemReader reader = new DictionaryItemReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        try (var items = reader.stream()) {
+            return items.toList();
+        }
+    }
+
+    private static void assertTwoItems(List<DictionaryItem> items) {
+        Assertions.assertEquals(List.of(
+                new DictionaryItem("ProviderType", 900001, 2, "first", 1, 11),
+                new DictionaryItem("ErrorCode", 900002, 3, null, 1, 12)
+        ), items);
+    }
+
+    @Test
+    @DisplayName("Массив верхнего уровня")
+    void topLevelArray() {
+        assertTwoItems(read("[" + ITEM_1 + "," + ITEM_2 + "]"));
+    }
+
+    @Test
+    @DisplayName("Обёртка: массив в data, перед ним другой массив (errors) — пропускается")
+    void wrappedArray_skipsOtherArrays() {
+        assertTwoItems(read("{\"errors\": [], \"total\": 2, \"data\": [" + ITEM_1 + "," + ITEM_2 + "]}"));
+    }
+
+    @Test
+    @DisplayName("Вложенная обёртка: result.items")
+    void nestedWrapper() {
+        assertTwoItems(read("{\"meta\": {\"warnings\": [\"x\"]}, \"result\": {\"page\": 1, \"items\": [" + ITEM_1 + "," + ITEM_2 + "]}}"));
+    }
+
+    @Test
+    @DisplayName("Пустой массив и ответ без списка — ноль элементов")
+    void emptyOrMissing() {
+        Assertions.assertEquals(List.of(), read("[]"));
+        Assertions.assertEquals(List.of(), read("{\"errors\": [\"boom\"]}"));
+    }
+}
@@ -0,0 +1,122 @@
+package baseUtils.api;
+
+import baseUtils.replay.ReplayStub;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Checkpoint сида и resume против локальной заглушки API.
+ */
+public class DictionarySeederTests {
+
+    private static final int CHUNK = 10;
+
+    @TempDir
+    Path dir;
+
+    private static Stream<DictionaryItem> items(int count) {
+        return IntStream.range(0, count).mapToObj(i -> DictionaryItem.of("ProviderType", 1_000 + i, 2, "seed #" + i, 1));
+    }
+
+    private static Properties props(Path file) throws IOException {
+        Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            props.load(reader);
+        }
+        return props;
+    }
+
+    @Test
+    @DisplayName("Checkpoint: пачки не по порядку — дырка не считается залитой, после перезагрузки то же")
+    void checkpoint_outOfOrder() throws IOException {
+        Path file = dir.resolve("seed.checkpoint");
+        DictionarySeeder.Checkpoint cp = DictionarySeeder.Checkpoint.load(file, CHUNK, "gen");
+        cp.add(2);
+        cp.add(0);
+        cp.add(4);
+
+        DictionarySeeder.Checkpoint reloaded = DictionarySeeder.Checkpoint.load(file, CHUNK, "gen");
+        Assertions.assertEquals(Set.of(0, 2, 4),
+                IntStream.range(0, 6).filter(reloaded::contains).boxed().collect(Collectors.toSet()));
+        Assertions.assertEquals("1", props(file).getProperty("chunksDone"));
+        Assertions.assertEquals("2,4", props(file).getProperty("ahead"));
+
+        reloaded.add(1);
+        Properties props = props(file);
+        Assertions.assertEquals("3", props.getProperty("chunksDone"));
+        Assertions.assertEquals("4", props.getProperty("ahead"));
+    }
+
+    @Test
+    @DisplayName("Resume: залитые пачки пропускаются, checkpoint после успеха удаляется")
+    void resume_skipsDoneChunks() {
+        Path file = dir.resolve("seed.checkpoint");
+        DictionarySeeder.Checkpoint cp = DictionarySeeder.Checkpoint.load(file, CHUNK, "gen");
+        cp.add(0);
+        cp.add(2);
+
+        Set<Long> seeded = ConcurrentHashMap.newKeySet();
+        try (ReplayStub stub = ReplayStub.start(0, 0, 0, 2);
+             ApiWorkerPool pool = new ApiWorkerPool(2, stub.baseUrl(), Map.of())) {
+            DictionarySeeder.SeedResult result = new DictionarySeeder(pool, CHUNK, file)
+                    .onChunkSeeded(chunk -> chunk.forEach(item -> seeded.add(item.entryId())))
+                    .seed(items(50), "gen");
+
+            Assertions.assertEquals(30, result.items());
+            Assertions.assertEquals(20, result.skipped());
+            Assertions.assertEquals(3, result.chunks());
+        }
+
+        Set<Long> expected = LongStream.concat(LongStream.range(1_010, 1_020), LongStream.range(1_030, 1_050))
+                .boxed().collect(Collectors.toSet());
+        Assertions.assertEquals(expected, seeded);
+        Assertions.assertFalse(Files.exists(file), "checkpoint должен удаляться после успешного сида");
+    }
+
+    @Test
+    @DisplayName("Resume с другим источником — отказ, checkpoint не трогается")
+    void resume_refusesOtherSource() throws IOException {
+        Path file = dir.resolve("seed.checkpoint");
+        DictionarySeeder.Checkpoint.load(file, CHUNK, "generate:base=1000,count=50").add(0);
+
+        try (ReplayStub stub = ReplayStub.start(0, 0, 0, 1);
+             ApiWorkerPool pool = new ApiWorkerPool(1, stub.baseUrl(), Map.of())) {
+            DictionarySeeder seeder = new DictionarySeeder(pool, CHUNK, file);
+
+            IllegalStateException e = Assertions.assertThrows(IllegalStateException.class,
+                    () -> seeder.seed(items(50), "generate:base=2000,count=50"));
+            Assertions.assertTrue(e.getMessage().contains("same source"), e.getMessage());
+        }
+        Assertions.assertEquals("1", props(file).getProperty("chunksDone"));
+    }
+
+    @Test
+    @DisplayName("Исключение из onChunkSeeded останавливает сид")
+    void listenerFailure_failsSeed() {
+        try (ReplayStub stub = ReplayStub.start(0, 0, 0, 1);
+             ApiWorkerPool pool = new ApiWorkerPool(1, stub.baseUrl(), Map.of())) {
+            DictionarySeeder seeder = new DictionarySeeder(pool, CHUNK, null)
+                    .onChunkSeeded(chunk -> {
+                        throw new IllegalArgumentException("boom");
+                    });
+
+            IllegalStateException e = Assertions.assertThrows(IllegalStateException.class, () -> seeder.seed(items(50)));
+            Assertions.assertEquals("boom", e.getCause().getMessage());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package baseUtils.api;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Страницы списка по пути, подсмотренному у UI.
+ */
+public class ListPagingTests {
+
+    @Test
+    @DisplayName("pageNumber/pageSize: размер подменяется, номер идёт от исходного (1-based)")
+    void pageNumber_oneBased() {
+        ListPaging paging = ListPaging.of("/api/CommunicationDictionary/list?keyId=&pageNumber=1&pageSize=10&sort", 1000);
+
+        Assertions.assertTrue(paging.paged());
+        Assertions.assertEquals("/api/CommunicationDictionary/list?keyId=&pageNumber=1&pageSize=1000&sort", paging.page(0, 0));
+        Assertions.assertEquals("/api/CommunicationDictionary/list?keyId=&pageNumber=3&pageSize=1000&sort", paging.page(2, 2000));
+    }
+
+    @Test
+    @DisplayName("skip/take: сдвиг по полученным элементам")
+    void skipTake() {
+        ListPaging paging = ListPaging.of("/api/list?skip=0&take=25", 1000);
+
+        Assertions.assertEquals("/api/list?skip=0&take=1000", paging.page(0, 0));
+        Assertions.assertEquals("/api/list?skip=2000&take=1000", paging.page(2, 2000));
+    }
+
+    @Test
+    @DisplayName("skip/take, сервер урезал take: сдвиг не перепрыгивает строки")
+    void skipTake_cappedByServer() {
+        ListPaging paging = ListPaging.of("/api/list?offset=10&limit=25", 1000);
+
+        // сервер отдаёт по 100 вместо 1000
+        Assertions.assertEquals("/api/list?offset=110&limit=1000", paging.page(1, 100));
+        Assertions.assertEquals("/api/list?offset=210&limit=1000", paging.page(2, 200));
+    }
+
+    @Test
+    @DisplayName("Без параметра страницы — один запрос по исходному пути")
+    void notPaged() {
+        ListPaging paging = ListPaging.of("/api/list?keyId=ProviderType", 1000);
+
+        Assertions.assertFalse(paging.paged());
+        Assertions.assertEquals("/api/list?keyId=ProviderType", paging.page(0, 0));
+        Assertions.assertThrows(IllegalStateException.class, () -> paging.page(1, 10));
+    }
+}
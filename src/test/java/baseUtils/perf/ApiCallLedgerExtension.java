@@ -0,0 +1,39 @@
+package baseUtils.perf;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.List;
+
+/**
+ * Сводка XHR/fetch по /payment/* экранам после каждого теста (контекст подключается через
+ * ApiCallLedger.install): запросы, байты, повторы одинаковых запросов в коротком окне.
+ *
+ * -DapiCalls.duplicateWindowMs (по умолчанию 1000), -DapiCalls.failOnDuplicates=true — валить тест на повторах.
+ */
+public class ApiCallLedgerExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final String SCREEN_PREFIX = "/payment/";
+    private static final long WINDOW_MS = Long.getLong("apiCalls.duplicateWindowMs", 1000);
+    private static final boolean FAIL_ON_DUPLICATES = Boolean.parseBoolean(System.getProperty("apiCalls.failOnDuplicates", "false"));
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        ApiCallLedger.reset();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        List<ApiCallLedger.ApiCall> calls = ApiCallLedger.calls();
+        String report = ApiCallLedger.report(calls, SCREEN_PREFIX, WINDOW_MS);
+        if (report.isEmpty()) return;
+
+        PerfReports.write("api-calls-" + PerfBudgetExtension.safeFileName(context.getUniqueId()) + ".txt",
+                context.getDisplayName() + "\n" + report);
+
+        if (FAIL_ON_DUPLICATES && ApiCallLedger.hasDuplicates(calls, SCREEN_PREFIX, WINDOW_MS)) {
+            throw new AssertionError("Duplicate API calls in " + context.getDisplayName() + ":\n" + report);
+        }
+    }
+}
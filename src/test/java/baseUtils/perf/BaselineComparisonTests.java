@@ -0,0 +1,72 @@
+package baseUtils.perf;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Сравнение с baseline: ряды с одним замером за прогон (длительность теста) реально сравниваются.
+ */
+public class BaselineComparisonTests {
+
+    // 10 прошлых прогонов по одному замеру теста
+    private static final List<Long> TEN_RUNS = List.of(1000L, 1010L, 990L, 1020L, 1005L, 995L, 1015L, 985L, 1000L, 1010L);
+
+    private static BaselineComparison compare(Map<String, List<Long>> current, Map<String, List<Long>> baseline) {
+        return BaselineComparison.compare(current, baseline, 5, 0.05, 20);
+    }
+
+    @Test
+    @DisplayName("Один замер в прогоне: медленнее всех baseline-прогонов и выше порога — регрессия")
+    void singleSample_slower_isRegression() {
+        BaselineComparison c = compare(Map.of("test A.open", List.of(1500L)), Map.of("test A.open", TEN_RUNS));
+
+        Assertions.assertEquals(1, c.rows().size(), c.toText(10));
+        BaselineComparison.Row row = c.rows().get(0);
+        Assertions.assertEquals("rank", row.test());
+        Assertions.assertEquals(1.0 / 11, row.pValue(), 1e-9);
+        Assertions.assertTrue(row.regression(), c.toText(10));
+        Assertions.assertFalse(c.toText(10).contains("Not compared"));
+    }
+
+    @Test
+    @DisplayName("Один замер в прогоне: внутри разброса baseline — сравнен, не регрессия")
+    void singleSample_withinBaseline_isCompared() {
+        BaselineComparison c = compare(Map.of("test A.open", List.of(1005L)), Map.of("test A.open", TEN_RUNS));
+
+        Assertions.assertEquals(1, c.rows().size(), c.toText(10));
+        Assertions.assertFalse(c.rows().get(0).regression());
+        Assertions.assertTrue(c.rows().get(0).pValue() > 0.3);
+    }
+
+    @Test
+    @DisplayName("Медленнее всех, но прирост ниже порога — не регрессия")
+    void singleSample_belowThreshold_notRegression() {
+        BaselineComparison c = compare(Map.of("test A.open", List.of(1100L)), Map.of("test A.open", TEN_RUNS));
+
+        Assertions.assertFalse(c.rows().get(0).regression());
+    }
+
+    @Test
+    @DisplayName("Мало замеров в baseline — не сравнивается")
+    void shortBaseline_skipped() {
+        BaselineComparison c = compare(Map.of("test A.open", List.of(1500L)), Map.of("test A.open", List.of(1000L, 1000L)));
+
+        Assertions.assertTrue(c.rows().isEmpty());
+        Assertions.assertTrue(c.toText(2).contains("test A.open (current 1, baseline 2 samples)"));
+    }
+
+    @Test
+    @DisplayName("Много замеров в прогоне — Манн–Уитни")
+    void manySamples_mannWhitney() {
+        List<Long> slow = List.of(1400L, 1450L, 1500L, 1420L, 1480L, 1460L);
+        BaselineComparison c = compare(Map.of("menu.click", slow), Map.of("menu.click", TEN_RUNS));
+
+        BaselineComparison.Row row = c.rows().get(0);
+        Assertions.assertEquals("U", row.test());
+        Assertions.assertTrue(row.regression(), c.toText(10));
+    }
+}
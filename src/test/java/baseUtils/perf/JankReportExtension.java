@@ -0,0 +1,38 @@
+package baseUtils.perf;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Отчёт о подвисаниях UI после каждого теста: longtask/event timing из JankMonitor
+ * (контекст должен быть подключен через JankMonitor.install), сгруппированные
+ * по действиям page-object'ов из PerfTimeline. Тест не валит — только отчёт в Allure.
+ * Буфер observer'ов досылается сразу после тела теста — до @AfterEach, где закрывается контекст.
+ *
+ * -Djank.thresholdMs — порог длительности записи (по умолчанию 100 мс).
+ */
+public class JankReportExtension implements BeforeEachCallback, AfterTestExecutionCallback, AfterEachCallback {
+
+    private static final long THRESHOLD_MS = Long.getLong("jank.thresholdMs", 100);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        JankMonitor.reset();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        JankMonitor.flush();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        String report = JankMonitor.report(PerfTimeline.actions(), THRESHOLD_MS);
+        if (report.isEmpty()) return;
+
+        PerfReports.write("jank-" + PerfBudgetExtension.safeFileName(context.getUniqueId()) + ".txt",
+                context.getDisplayName() + "\n" + report);
+    }
+}
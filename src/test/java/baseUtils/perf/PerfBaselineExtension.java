@@ -0,0 +1,109 @@
+package baseUtils.perf;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Сравнение с прошлыми прогонами: длительность каждого теста и каждого действия из PerfTimeline
+ * копится за весь прогон, в конце сравнивается с пулом последних прогонов из PerfHistory
+ * (Манн–Уитни или ранг в baseline для рядов с одним замером за прогон + порог по p95, см. BaselineComparison),
+ * отчёт — perf-baseline.txt, текущий прогон дописывается в историю.
+ *
+ * -DperfBaseline.fail=true — значимая регрессия валит прогон (по умолчанию только отчёт);
+ * -DperfBaseline.runs=10, minRuns=3, minSamples=5 (замеров в baseline; от стольких в прогоне — Манн–Уитни),
+ * alpha=0.05, minIncreasePercent=20;
+ * -DperfBaseline.record=false — не писать прогон в историю (локальные эксперименты);
+ * -DperfHistory.keep=50 — сколько прогонов хранить.
+ */
+public class PerfBaselineExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(PerfBaselineExtension.class);
+
+    private static final boolean FAIL = Boolean.parseBoolean(System.getProperty("perfBaseline.fail", "false"));
+    private static final boolean RECORD = Boolean.parseBoolean(System.getProperty("perfBaseline.record", "true"));
+    private static final int BASELINE_RUNS = Integer.getInteger("perfBaseline.runs", 10);
+    private static final int MIN_RUNS = Integer.getInteger("perfBaseline.minRuns", 3);
+    private static final int MIN_SAMPLES = Integer.getInteger("perfBaseline.minSamples", 5);
+    private static final double ALPHA = Double.parseDouble(System.getProperty("perfBaseline.alpha", "0.05"));
+    private static final double MIN_INCREASE_PERCENT = Double.parseDouble(System.getProperty("perfBaseline.minIncreasePercent", "20"));
+    private static final int KEEP_RUNS = Integer.getInteger("perfHistory.keep", 50);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getStore(NAMESPACE).put("start", System.currentTimeMillis());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        // упавший тест (таймаут, ассерт) — не замер производительности
+        if (context.getExecutionException().isPresent()) return;
+
+        Long start = context.getStore(NAMESPACE).remove("start", Long.class);
+        RunSamples run = context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(RunSamples.class, k -> new RunSamples(), RunSamples.class);
+
+        if (start != null) {
+            run.add("test " + testName(context), System.currentTimeMillis() - start);
+        }
+        for (PerfTimeline.TimedAction a : PerfTimeline.actions()) {
+            run.add(a.name(), a.durationMs());
+        }
+    }
+
+    private static String testName(ExtensionContext context) {
+        String name = context.getRequiredTestClass().getSimpleName() + "." + context.getRequiredTestMethod().getName();
+        // параметризованные — отдельный ряд на каждый набор параметров
+        return context.getUniqueId().contains("-invocation:") ? name + " " + context.getDisplayName() : name;
+    }
+
+    /**
+     * Замеры всего прогона. Лежит в root store — JUnit закрывает его в конце прогона, тогда и сравниваем.
+     */
+    static final class RunSamples implements AutoCloseable {
+
+        private final long startedAt = System.currentTimeMillis();
+        private final Map<String, List<Long>> samples = new LinkedHashMap<>();
+
+        synchronized void add(String name, long durationMs) {
+            samples.computeIfAbsent(name, k -> new ArrayList<>()).add(durationMs);
+        }
+
+        @Override
+        public synchronized void close() {
+            if (samples.isEmpty()) return;
+
+            PerfHistory history = PerfHistory.fromSystemProperty();
+            List<PerfHistory.Run> previous = history.lastRuns(BASELINE_RUNS);
+
+            String runId = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC).format(Instant.ofEpochMilli(startedAt));
+            if (RECORD) {
+                history.save(new PerfHistory.Run(runId, startedAt, samples), KEEP_RUNS);
+            }
+
+            if (previous.size() < MIN_RUNS) {
+                PerfReports.write("perf-baseline.txt", String.format(
+                        "Baseline not compared: %d previous run(s) in %s, need %d.%n", previous.size(), history.dir(), MIN_RUNS));
+                return;
+            }
+
+            BaselineComparison comparison = BaselineComparison.compare(
+                    samples, PerfHistory.pool(previous), MIN_SAMPLES, ALPHA, MIN_INCREASE_PERCENT);
+            String report = comparison.toText(previous.size());
+            PerfReports.write("perf-baseline.txt", report);
+
+            if (FAIL && !comparison.regressions().isEmpty()) {
+                throw new AssertionError("Performance regressed against baseline:\n  "
+                        + String.join("\n  ", comparison.regressionSummary()));
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package baseUtils.perf;
+
+import baseUtils.browser.CpuThrottling;
+import baseUtils.browser.NetworkProfile;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Проверка бюджетов времени после каждого теста: замеры берутся из PerfTimeline (сброс — PerfTimelineExtension)
+ * (клики в MenuBarPage, waitOpened списков, открытие actions-меню), бюджеты — из PerfBudgets.
+ * Превышение валит тест с разбивкой всех замеров теста.
+ *
+ * -DperfBudgets.enforce=false — только отчёт (в Allure), без падения.
+ * Бюджеты заданы для прогона без троттлинга: при -DnetworkProfile / -DcpuThrottlingRate по умолчанию
+ * тоже только отчёт (с именем профиля); -DperfBudgets.enforce=true — валить и под троттлингом.
+ */
+public class PerfBudgetExtension implements AfterEachCallback {
+
+    private static final NetworkProfile NETWORK = NetworkProfile.fromSystemProperty();
+    private static final double CPU_RATE = CpuThrottling.rateFromSystemProperty();
+    private static final boolean THROTTLED = NETWORK.isThrottled() || CPU_RATE > 1;
+
+    private static final boolean ENFORCE = Boolean.parseBoolean(System.getProperty("perfBudgets.enforce", String.valueOf(!THROTTLED)));
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        List<PerfTimeline.TimedAction> actions = PerfTimeline.actions();
+        if (actions.isEmpty()) return;
+
+        PerfBudgets budgets = PerfBudgets.get();
+        long t0 = actions.get(0).startEpochMs();
+
+        StringBuilder breakdown = new StringBuilder();
+        StringBuilder breaches = new StringBuilder();
+
+        for (PerfTimeline.TimedAction a : actions) {
+            OptionalLong budget = budgets.budgetFor(a.name());
+            boolean exceeded = budget.isPresent() && a.durationMs() > budget.getAsLong();
+
+            breakdown.append(String.format("  +%6d ms  %-40s %6d ms%s%n",
+                    a.startEpochMs() - t0, a.name(), a.durationMs(),
+                    budget.isPresent() ? String.format("  [budget %d ms%s]", budget.getAsLong(), exceeded ? ", EXCEEDED" : "") : ""));
+
+            if (exceeded) {
+                breaches.append(String.format("  %s: %d ms > budget %d ms%n", a.name(), a.durationMs(), budget.getAsLong()));
+            }
+        }
+
+        if (breaches.length() == 0) return;
+
+        String message = "Performance budget exceeded in " + context.getDisplayName() + ":\n" + breaches
+                + "Timing breakdown:\n" + breakdown
+                + String.format("Throttling: network %s, CPU %.1fx — budgets %s%n",
+                NETWORK, CPU_RATE, ENFORCE ? "enforced" : "not enforced (report only)");
+
+        PerfReports.write("perf-budget-" + safeFileName(context.getUniqueId()) + ".txt", message);
+
+        if (ENFORCE) {
+            throw new AssertionError(message);
+        }
+    }
+
+    static String safeFileName(String s) {
+        String cleaned = s.replaceAll("[^A-Za-z0-9._-]+", "_");
+        return cleaned.length() > 120 ? cleaned.substring(cleaned.length() - 120) : cleaned;
+    }
+}
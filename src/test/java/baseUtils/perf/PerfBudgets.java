@@ -0,0 +1,85 @@
+package baseUtils.perf;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Бюджеты времени из perf-budgets.json (в test resources, или свой файл через -DperfBudgets=path).
+ *
+ * "routes":  route -> мс от клика в меню до готовности списка (замер "route /payment/...");
+ * "actions": имя замера PerfTimeline -> мс (например "merchant.openActionsMenu").
+ */
+public final class PerfBudgets {
+
+    private static final String DEFAULT_RESOURCE = "perf-budgets.json";
+
+    private static volatile PerfBudgets instance;
+
+    private final Map<String, Long> budgets;
+
+    private PerfBudgets(Map<String, Long> budgets) {
+        this.budgets = Map.copyOf(budgets);
+    }
+
+    public static PerfBudgets get() {
+        if (instance == null) {
+            synchronized (PerfBudgets.class) {
+                if (instance == null) instance = load();
+            }
+        }
+        return instance;
+    }
+
+    /** Бюджет для имени замера из PerfTimeline. */
+    public OptionalLong budgetFor(String measurement) {
+        Long ms = budgets.get(measurement);
+        return ms == null ? OptionalLong.empty() : OptionalLong.of(ms);
+    }
+
+    private static PerfBudgets load() {
+        String path = System.getProperty("perfBudgets");
+        try (Reader reader = path != null
+                ? Files.newBufferedReader(Paths.get(path), StandardCharsets.UTF_8)
+                : resourceReader()) {
+            if (reader == null) return new PerfBudgets(Map.of());
+
+            JsonObject root = JsonParser.parseReader(reader).getAsJsonObject();
+            Map<String, Long> budgets = new HashMap<>();
+
+            JsonObject routes = root.getAsJsonObject("routes");
+            if (routes != null) {
+                for (Map.Entry<String, JsonElement> e : routes.entrySet()) {
+                    budgets.put(PerfTimeline.ROUTE_PREFIX + e.getKey(), e.getValue().getAsLong());
+                }
+            }
+
+            JsonObject actions = root.getAsJsonObject("actions");
+            if (actions != null) {
+                for (Map.Entry<String, JsonElement> e : actions.entrySet()) {
+                    budgets.put(e.getKey(), e.getValue().getAsLong());
+                }
+            }
+            return new PerfBudgets(budgets);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read perf budgets", e);
+        }
+    }
+
+    private static Reader resourceReader() {
+        InputStream in = PerfBudgets.class.getClassLoader().getResourceAsStream(DEFAULT_RESOURCE);
+        return in == null ? null : new InputStreamReader(in, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,17 @@
+package baseUtils.perf;
+
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Единственный владелец PerfTimeline в тестах: чистит журнал перед каждым тестом.
+ * Расширения, которые его читают (бюджеты, baseline, jank), сами не сбрасывают —
+ * подключать вместе с ними первым в @ExtendWith.
+ */
+public class PerfTimelineExtension implements BeforeEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        PerfTimeline.reset();
+    }
+}
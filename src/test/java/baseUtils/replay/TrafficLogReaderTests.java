@@ -0,0 +1,83 @@
+package baseUtils.replay;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Чтение записанного трафика: JSONL и HAR -> вызовы API по порядку, со смещением от первого.
+ */
+public class TrafficLogReaderTests {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("JSONL: сортировка по ts, смещения от первого вызова, query сохраняется, статика отфильтрована")
+    void jsonLines() throws IOException {
+        Path log = dir.resolve("session.jsonl");
+        Files.writeString(log, """
+                {"ts": 1000500, "method": "POST", "url": "https://api.example/api/CommunicationDictionary/addDictionaries", "body": [{"entryId": 1}]}
+
+                {"ts": 1000000, "method": "GET", "url": "https://api.example/api/CommunicationDictionary/list?page=1&size=50"}
+                {"ts": 1000200, "method": "GET", "url": "https://admin.example/main.js"}
+                {"ts": 1001000, "method": "DELETE", "url": "https://api.example/api/CommunicationDictionary/deleteDictionaries", "body": "[5]"}
+                """);
+
+        List<RecordedCall> calls = TrafficLogReader.read(log);
+
+        Assertions.assertEquals(List.of(
+                new RecordedCall(0, "GET", "/api/CommunicationDictionary/list?page=1&size=50", null),
+                new RecordedCall(500, "POST", "/api/CommunicationDictionary/addDictionaries", "[{\"entryId\":1}]"),
+                new RecordedCall(1000, "DELETE", "/api/CommunicationDictionary/deleteDictionaries", "[5]")
+        ), calls);
+    }
+
+    @Test
+    @DisplayName("HAR: entries из log, тело из postData.text, время из startedDateTime")
+    void har() throws IOException {
+        Path log = dir.resolve("session.har");
+        Files.writeString(log, """
+                {"log": {"version": "1.2", "pages": [],
+                  "entries": [
+                    {"startedDateTime": "2026-10-19T10:00:01.250Z",
+                     "request": {"method": "POST", "url": "https://api.example/api/CommunicationDictionary/updateDictionaries",
+                                 "postData": {"mimeType": "application/json", "text": "[{\\"id\\":7}]"}},
+                     "response": {"status": 200, "content": {"text": "{}"}}},
+                    {"startedDateTime": "2026-10-19T10:00:00.000Z",
+                     "request": {"method": "GET", "url": "https://api.example/api/CommunicationDictionary/7"},
+                     "response": {"status": 200}},
+                    {"startedDateTime": "2026-10-19T10:00:00.100Z",
+                     "request": {"method": "GET", "url": "https://admin.example/assets/logo.svg"},
+                     "response": {"status": 200}}
+                  ]}}
+                """);
+
+        List<RecordedCall> calls = TrafficLogReader.read(log);
+
+        Assertions.assertEquals(List.of(
+                new RecordedCall(0, "GET", "/api/CommunicationDictionary/7", null),
+                new RecordedCall(1250, "POST", "/api/CommunicationDictionary/updateDictionaries", "[{\"id\":7}]")
+        ), calls);
+        Assertions.assertEquals("GET /api/CommunicationDictionary/{id}", calls.get(0).endpoint());
+    }
+
+    @Test
+    @DisplayName("Только чтения: пишущие вызовы отбрасываются")
+    void readOnly() {
+        List<RecordedCall> calls = List.of(
+                new RecordedCall(0, "GET", "/api/a", null),
+                new RecordedCall(1, "post", "/api/b", "{}"),
+                new RecordedCall(2, "DELETE", "/api/c", "[1]"),
+                new RecordedCall(3, "HEAD", "/api/d", null)
+        );
+
+        Assertions.assertEquals(List.of(calls.get(0), calls.get(3)), TrafficReplayer.readOnly(calls));
+    }
+}
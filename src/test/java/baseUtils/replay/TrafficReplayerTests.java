@@ -0,0 +1,62 @@
+package baseUtils.replay;
+
+import baseUtils.api.ApiWorkerPool;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Расписание проигрыша против локальной ReplayStub: интервалы масштабируются speed,
+ * а при занятых воркерах вызовы уходят позже (lag).
+ */
+public class TrafficReplayerTests {
+
+    @Test
+    @DisplayName("speed=2: вызовы уходят по смещениям / 2, без ошибок")
+    void scheduleScaledBySpeed() {
+        List<RecordedCall> calls = List.of(
+                new RecordedCall(0, "GET", "/api/a", null),
+                new RecordedCall(400, "GET", "/api/b", null),
+                new RecordedCall(800, "POST", "/api/c", "{}")
+        );
+
+        try (ReplayStub stub = ReplayStub.start(5, 0, 0, 4);
+             ApiWorkerPool pool = new ApiWorkerPool(4, stub.baseUrl(), Map.of())) {
+            long start = System.nanoTime();
+            ReplayReport report = new TrafficReplayer(pool).replay(calls, 2);
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            Assertions.assertEquals(0, report.errorCount(), report.toText());
+            Assertions.assertEquals(List.of(0L, 200L, 400L),
+                    report.results().stream().map(ReplayResult::replayOffsetMs).toList());
+            Assertions.assertTrue(elapsedMs >= 400, "Последний вызов ушёл раньше расписания: " + elapsedMs + " ms");
+            Assertions.assertTrue(report.toText().contains("concurrency=4"), report.toText());
+        }
+    }
+
+    @Test
+    @DisplayName("Один воркер и медленная заглушка: одновременные вызовы копят lag")
+    void busyWorkersShowAsLag() {
+        List<RecordedCall> calls = List.of(
+                new RecordedCall(0, "GET", "/api/a", null),
+                new RecordedCall(0, "GET", "/api/a", null),
+                new RecordedCall(0, "GET", "/api/a", null)
+        );
+
+        try (ReplayStub stub = ReplayStub.start(150, 0, 0, 4);
+             ApiWorkerPool pool = new ApiWorkerPool(1, stub.baseUrl(), Map.of())) {
+            // первый вызов на воркере — ещё и создание Playwright, прогреваем отдельно
+            new TrafficReplayer(pool).replay(calls.subList(0, 1), 1);
+
+            ReplayReport report = new TrafficReplayer(pool).replay(calls, 1);
+
+            List<Long> lags = report.results().stream().map(ReplayResult::lagMs).toList();
+            Assertions.assertEquals(0, report.errorCount(), report.toText());
+            Assertions.assertTrue(lags.get(2) >= 250, "Третий вызов должен ждать два предыдущих: lag=" + lags);
+            Assertions.assertTrue(report.toText().contains("concurrency=1"), report.toText());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package pages.mainPage;
+
+import baseUtils.browser.CpuThrottling;
+import baseUtils.browser.NetworkProfile;
+import baseUtils.browser.NetworkThrottling;
+import baseUtils.perf.LoadTimingProbe;
+import baseUtils.perf.MemorySampler;
+import baseUtils.perf.MemorySoakReport;
+import baseUtils.perf.PerfReports;
+import com.microsoft.playwright.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Soak: одна страница часами ходит по всем 9 вкладкам сайдбара, после каждого круга —
+ * замер кучи/DOM-узлов/listener'ов через CDP. В конце тренд по кругам + heap snapshot.
+ *
+ * Запуск: -Dsoak.minutes=120 (без него тест пропускается).
+ * -Dsoak.maxCycles — ограничить число кругов, -Dsoak.warmupCycles (по умолчанию 3),
+ * -Dsoak.gc=false — без принудительного GC перед замером,
+ * -Dsoak.failOnLeak=false — только отчёт.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "soak.minutes", matches = "\\d+")
+public class MenuBarMemorySoakTests {
+
+    private Playwright playwright;
+    private Browser browser;
+
+    private BrowserContext context;
+    private Page page;
+
+    private MenuBarPage menuBarPage;
+
+    private static final String BASE_URL =
+            System.getProperty("baseUrl",
+                    System.getenv().getOrDefault("BASE_URL", "https://admin-web-dev.itguru.am/home"));
+
+    private static final long SOAK_MINUTES = Long.getLong("soak.minutes", 0);
+    private static final int MAX_CYCLES = Integer.getInteger("soak.maxCycles", Integer.MAX_VALUE);
+    private static final int WARMUP_CYCLES = Integer.getInteger("soak.warmupCycles", 3);
+    private static final boolean FORCE_GC = Boolean.parseBoolean(System.getProperty("soak.gc", "true"));
+    private static final boolean FAIL_ON_LEAK = Boolean.parseBoolean(System.getProperty("soak.failOnLeak", "true"));
+
+    // Рост считается утечкой, если тренд ровный (r2) и за прогон вырос больше чем на столько процентов
+    private static final double MIN_R2 = 0.6;
+    private static final double MIN_GROWTH_PERCENT = 10;
+
+    @BeforeAll
+    void beforeAll() {
+        playwright = Playwright.create();
+        browser = playwright.chromium().launch(
+                new BrowserType.LaunchOptions().setHeadless(true)
+        );
+    }
+
+    @AfterAll
+    void afterAll() {
+        if (browser != null) browser.close();
+        if (playwright != null) playwright.close();
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        context = browser.newContext(new Browser.NewContextOptions().setViewportSize(1920, 1080));
+        NetworkThrottling.apply(context, NetworkProfile.fromSystemProperty());
+        CpuThrottling.apply(context, CpuThrottling.rateFromSystemProperty());
+        LoadTimingProbe.install(context);
+        page = context.newPage();
+
+        page.navigate(BASE_URL);
+
+        menuBarPage = new MenuBarPage(page);
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (context != null) context.close();
+    }
+
+    @Test
+    @DisplayName("Soak: циклическая навигация по сайдбару не даёт устойчивого роста памяти")
+    void sidebarNavigationSoak() {
+        MemorySampler sampler = new MemorySampler(page);
+        List<MemorySampler.MemorySample> samples = new ArrayList<>();
+
+        long deadline = System.currentTimeMillis() + SOAK_MINUTES * 60_000;
+        samples.add(sampler.sample(0, FORCE_GC));
+
+        for (int cycle = 1; cycle <= MAX_CYCLES && System.currentTimeMillis() < deadline; cycle++) {
+            for (String route : MenuBarPage.ALL_ROUTES) {
+                menuBarPage.openRoute(route);
+                assertThat(page).hasURL(Pattern.compile(".*" + Pattern.quote(route) + ".*"));
+
+                // ждём, пока таблица вкладки дорисуется, чтобы не мерить полузагруженную страницу
+                LoadTimingProbe.collect(page, route, 300, 10_000);
+            }
+            samples.add(sampler.sample(cycle, FORCE_GC));
+        }
+
+        MemorySoakReport report = new MemorySoakReport(samples, WARMUP_CYCLES, MIN_R2, MIN_GROWTH_PERCENT);
+        PerfReports.write("menu-soak-memory.txt", report.toText());
+        sampler.writeHeapSnapshot(PerfReports.reportDir().resolve("menu-soak-end.heapsnapshot"));
+
+        if (FAIL_ON_LEAK) {
+            assertFalse(report.leakSuspected(), "Sustained memory growth during sidebar soak:\n" + report.toText());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package pages.mainPage;
+
+import baseUtils.crawl.RouteCrawler;
+import baseUtils.crawl.RouteHealth;
+import baseUtils.perf.PerfReports;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Быстрый smoke всех вкладок сайдбара: маршруты берутся из DOM, грузятся параллельно (RouteCrawler).
+ * Отчёт — route-sweep.txt (время загрузки, ошибки консоли, упавшие запросы).
+ *
+ * -Dcrawler.workers (по умолчанию 2), -Dcrawler.pages — параллельных страниц на воркер (5),
+ * -Dcrawler.strict=true — валить на ошибках консоли и упавших запросах (по умолчанию только отчёт).
+ */
+public class SidebarRouteCrawlerTests {
+
+    private static final String BASE_URL =
+            System.getProperty("baseUrl",
+                    System.getenv().getOrDefault("BASE_URL", "https://admin-web-dev.itguru.am/home"));
+
+    private static final int WORKERS = Integer.getInteger("crawler.workers", 2);
+    private static final int PAGES_PER_WORKER = Integer.getInteger("crawler.pages", 5);
+    private static final boolean STRICT = Boolean.parseBoolean(System.getProperty("crawler.strict", "false"));
+
+    @Test
+    @DisplayName("Все вкладки сайдбара открываются (параллельный обход маршрутов)")
+    void allSidebarRoutesLoad() {
+        List<RouteHealth> results = new RouteCrawler(BASE_URL, WORKERS, PAGES_PER_WORKER, true).crawl();
+        String report = RouteCrawler.toText(results);
+        PerfReports.write("route-sweep.txt", report);
+
+        List<String> crawled = results.stream().map(RouteHealth::route).toList();
+        assertTrue(crawled.containsAll(MenuBarPage.ALL_ROUTES),
+                "Sidebar is missing known routes. Found: " + crawled);
+
+        assertTrue(results.stream().allMatch(RouteHealth::loaded), "Some routes did not load:\n" + report);
+
+        if (STRICT) {
+            assertTrue(results.stream().allMatch(RouteHealth::clean), "Console errors / failed requests:\n" + report);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package pages.mainPage;
+
+import baseUtils.browser.NetworkProfile;
+import baseUtils.browser.NetworkThrottling;
+import baseUtils.perf.LoadTimingProbe;
+import baseUtils.perf.PerfReports;
+import baseUtils.perf.StaticAssetAudit;
+import com.microsoft.playwright.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
+
+/**
+ * Аудит кэширования статики: для каждой вкладки сайдбара холодная загрузка (свежий контекст)
+ * и тёплая (новая страница в том же контексте), заголовки Cache-Control/ETag/Content-Encoding
+ * и байты по сети. Отчёт — static-asset-audit.txt, проблемы отсортированы по потерянным байтам.
+ *
+ * Запуск: -DassetAudit=true. Тест не падает — это аудит, а не проверка.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "assetAudit", matches = "true")
+public class StaticAssetCacheAuditTests {
+
+    private Playwright playwright;
+    private Browser browser;
+
+    private static final String BASE_URL =
+            System.getProperty("baseUrl",
+                    System.getenv().getOrDefault("BASE_URL", "https://admin-web-dev.itguru.am/home"));
+
+    @BeforeAll
+    void beforeAll() {
+        playwright = Playwright.create();
+        browser = playwright.chromium().launch(
+                new BrowserType.LaunchOptions().setHeadless(true)
+        );
+    }
+
+    @AfterAll
+    void afterAll() {
+        if (browser != null) browser.close();
+        if (playwright != null) playwright.close();
+    }
+
+    /** Открыть главную, перейти на вкладку и дождаться таблицы. Возвращает захват ассетов этой загрузки. */
+    private StaticAssetAudit.Capture load(BrowserContext context, String route) {
+        Page page = context.newPage();
+        StaticAssetAudit.Capture capture = StaticAssetAudit.capture(page);
+        LoadTimingProbe.install(page);
+
+        page.navigate(BASE_URL);
+        new MenuBarPage(page).openRoute(route);
+        assertThat(page).hasURL(Pattern.compile(".*" + Pattern.quote(route) + ".*"));
+        LoadTimingProbe.collect(page, route, 300, 10_000);
+
+        page.close();
+        return capture;
+    }
+
+    @Test
+    @DisplayName("Аудит Cache-Control / ETag / сжатия статики: cold vs warm по вкладкам")
+    void staticAssetCacheAudit() {
+        Map<String, long[]> perRoute = new LinkedHashMap<>();
+        List<StaticAssetAudit.AssetLoad> cold = new ArrayList<>();
+        List<StaticAssetAudit.AssetLoad> warm = new ArrayList<>();
+
+        for (String route : MenuBarPage.ALL_ROUTES) {
+            try (BrowserContext context = browser.newContext(new Browser.NewContextOptions().setViewportSize(1920, 1080))) {
+                NetworkThrottling.apply(context, NetworkProfile.fromSystemProperty());
+
+                StaticAssetAudit.Capture coldLoad = load(context, route);
+                StaticAssetAudit.Capture warmLoad = load(context, route);
+
+                cold.addAll(coldLoad.loads());
+                warm.addAll(warmLoad.loads());
+                perRoute.put(route, new long[]{coldLoad.wireBytes(), warmLoad.wireBytes()});
+            }
+        }
+
+        List<StaticAssetAudit.AssetProblem> problems = StaticAssetAudit.problems(cold, warm);
+        PerfReports.write("static-asset-audit.txt", StaticAssetAudit.report(perRoute, problems));
+    }
+}
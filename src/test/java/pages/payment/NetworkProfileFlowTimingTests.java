@@ -0,0 +1,125 @@
+package pages.payment;
+
+import baseUtils.browser.NetworkProfile;
+import baseUtils.browser.NetworkThrottling;
+import baseUtils.perf.FlowTimings;
+import baseUtils.perf.LoadTimingProbe;
+import baseUtils.perf.PageLoadTiming;
+import baseUtils.perf.PerfReports;
+import com.microsoft.playwright.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import pages.mainPage.MenuBarPage;
+import pages.payment.dictionary.CreatePaymentDictionaryPage;
+import pages.payment.dictionary.PaymentDictionaryListPage;
+import pages.payment.merchant.PaymentMerchantListPage;
+import pages.payment.provider.PaymentProviderListPage;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class NetworkProfileFlowTimingTests {
+
+    private Playwright playwright;
+    private Browser browser;
+
+    private BrowserContext context;
+    private Page page;
+
+    private MenuBarPage menuBarPage;
+
+    private static final String BASE_URL =
+            System.getProperty("baseUrl",
+                    System.getenv().getOrDefault("BASE_URL", "https://admin-web-dev.itguru.am/home"));
+
+    // Какие профили прогоняем: -DnetworkProfiles=LAN,3G,DSL,custom:300:2000:500
+    private static final String PROFILES = System.getProperty("networkProfiles", "LAN,3G,DSL");
+
+    private final FlowTimings timings = new FlowTimings("Payment flows by network profile");
+
+    static Stream<NetworkProfile> profiles() {
+        return Arrays.stream(PROFILES.split(",")).map(NetworkProfile::parse);
+    }
+
+    @BeforeAll
+    void beforeAll() {
+        playwright = Playwright.create();
+        browser = playwright.chromium().launch(
+                new BrowserType.LaunchOptions().setHeadless(true)
+        );
+    }
+
+    @AfterAll
+    void afterAll() {
+        PerfReports.write("network-profile-flow-timings.txt", timings.toText());
+
+        if (browser != null) browser.close();
+        if (playwright != null) playwright.close();
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (context != null) context.close();
+    }
+
+    // фазы загрузки — чтобы было видно, что именно деградирует под профилем (сеть/данные/рендер)
+    private void recordPhases(String variant, String flow, PageLoadTiming timing) {
+        if (timing.navigationCommitMs() >= 0) timings.record(variant, flow + ": commit", Math.round(timing.navigationCommitMs()));
+        if (timing.firstDataResponseMs() >= 0) timings.record(variant, flow + ": first data", Math.round(timing.firstDataResponseMs()));
+        if (timing.firstRowMs() >= 0) timings.record(variant, flow + ": first row", Math.round(timing.firstRowMs()));
+        if (timing.lastRowMs() >= 0) timings.record(variant, flow + ": last row", Math.round(timing.lastRowMs()));
+    }
+
+    // ===== Тесты =====
+
+    @ParameterizedTest(name = "Network profile = {0}")
+    @MethodSource("profiles")
+    @DisplayName("Время открытия Payment-списков и Create Dictionary под сетевым профилем")
+    void paymentFlows_timingsUnderNetworkProfile(NetworkProfile profile) {
+        String variant = profile.name();
+
+        context = browser.newContext(new Browser.NewContextOptions().setViewportSize(1920, 1080));
+        NetworkThrottling.apply(context, profile);
+        LoadTimingProbe.install(context);
+        page = context.newPage();
+
+        menuBarPage = new MenuBarPage(page);
+        PaymentProviderListPage providerListPage = new PaymentProviderListPage(page);
+        PaymentMerchantListPage merchantListPage = new PaymentMerchantListPage(page);
+        PaymentDictionaryListPage dictionaryListPage = new PaymentDictionaryListPage(page);
+        CreatePaymentDictionaryPage createDictionaryPage = new CreatePaymentDictionaryPage(page);
+
+        timings.time(variant, "home (navigate)", () -> {
+            page.navigate(BASE_URL);
+        });
+
+        timings.time(variant, "provider list -> first column read", () -> {
+            menuBarPage.clickPaymentProvider();
+            assertThat(page).hasURL(Pattern.compile(".*/payment/provider/list.*"));
+            Assertions.assertFalse(providerListPage.columnTexts("providerName").isEmpty());
+        });
+
+        timings.time(variant, "merchant list -> first column read", () -> {
+            menuBarPage.clickPaymentMerchant();
+            assertThat(page).hasURL(Pattern.compile(".*/payment/merchant/list.*"));
+            Assertions.assertFalse(merchantListPage.columnTexts("merchantName").isEmpty());
+        });
+
+        timings.time(variant, "dictionary list -> opened", () -> {
+            menuBarPage.clickPaymentDictionary();
+            assertThat(page).hasURL(Pattern.compile(".*/payment/dictionary/list.*"));
+            dictionaryListPage.waitOpened();
+        });
+        recordPhases(variant, "dictionary list", dictionaryListPage.loadTiming());
+
+        timings.time(variant, "dictionary create -> opened", () -> {
+            dictionaryListPage.clickCreate();
+            createDictionaryPage.waitOpened();
+        });
+    }
+}
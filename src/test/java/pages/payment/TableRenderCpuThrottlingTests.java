@@ -0,0 +1,115 @@
+package pages.payment;
+
+import baseUtils.browser.CpuThrottling;
+import baseUtils.perf.FlowTimings;
+import baseUtils.perf.PerfReports;
+import baseUtils.perf.TableRenderProbe;
+import com.microsoft.playwright.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import pages.mainPage.MenuBarPage;
+import pages.payment.dictionary.PaymentDictionaryListPage;
+import pages.payment.merchant.PaymentMerchantListPage;
+import pages.payment.provider.PaymentProviderListPage;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class TableRenderCpuThrottlingTests {
+
+    private Playwright playwright;
+    private Browser browser;
+
+    private BrowserContext context;
+    private Page page;
+
+    private static final String BASE_URL =
+            System.getProperty("baseUrl",
+                    System.getenv().getOrDefault("BASE_URL", "https://admin-web-dev.itguru.am/home"));
+
+    // Какие замедления прогоняем: -DcpuRates=1,4,6
+    private static final String CPU_RATES = System.getProperty("cpuRates", "1,4,6");
+
+    // Таблица считается дорисованной, если число строк не менялось столько мс
+    private static final long QUIET_MS = 500;
+
+    private static final String ROWS_PROVIDER = "app-provider-list table[role='table'] tbody tr";
+    private static final String ROWS_DEFAULT = "main table[role='table'] tbody tr, table[role='table'] tbody tr";
+
+    private final FlowTimings timings = new FlowTimings("mat-table rendering by CPU slowdown");
+
+    static Stream<Arguments> cases() {
+        List<String> lists = List.of("provider", "merchant", "dictionary");
+        return Arrays.stream(CPU_RATES.split(","))
+                .map(String::trim)
+                .map(Double::parseDouble)
+                .flatMap(rate -> lists.stream().map(list -> arguments(rate, list)));
+    }
+
+    @BeforeAll
+    void beforeAll() {
+        playwright = Playwright.create();
+        browser = playwright.chromium().launch(
+                new BrowserType.LaunchOptions().setHeadless(true)
+        );
+    }
+
+    @AfterAll
+    void afterAll() {
+        PerfReports.write("table-render-cpu-throttling.txt", timings.toText());
+
+        if (browser != null) browser.close();
+        if (playwright != null) playwright.close();
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (context != null) context.close();
+    }
+
+    // ===== Тесты =====
+
+    @ParameterizedTest(name = "CPU x{0}: {1} list")
+    @MethodSource("cases")
+    @DisplayName("Time-to-first-row / time-to-full-table для Payment-списков под CPU slowdown")
+    void listTable_renderTimingUnderCpuThrottling(double rate, String list) {
+        String variant = "cpu x" + (rate == Math.rint(rate) ? String.valueOf((long) rate) : String.valueOf(rate));
+
+        context = browser.newContext(new Browser.NewContextOptions().setViewportSize(1920, 1080));
+        CpuThrottling.apply(context, rate);
+        page = context.newPage();
+        page.navigate(BASE_URL);
+
+        MenuBarPage menuBarPage = new MenuBarPage(page);
+
+        TableRenderProbe.arm(page, list.equals("provider") ? ROWS_PROVIDER : ROWS_DEFAULT);
+        switch (list) {
+            case "provider" -> menuBarPage.clickPaymentProvider();
+            case "merchant" -> menuBarPage.clickPaymentMerchant();
+            case "dictionary" -> menuBarPage.clickPaymentDictionary();
+            default -> throw new IllegalArgumentException("Unknown list: " + list);
+        }
+
+        TableRenderProbe.TableRenderTiming timing = TableRenderProbe.awaitRendered(page, QUIET_MS, 60_000);
+        timings.record(variant, list + " first row", Math.round(timing.firstRowMs()));
+        timings.record(variant, list + " full table", Math.round(timing.fullTableMs()));
+
+        // "read" часть флоу — то же чтение, что делают core-тесты списков
+        List<String> texts = timings.time(variant, list + " read column", () -> switch (list) {
+            case "provider" -> new PaymentProviderListPage(page).columnTexts("providerName");
+            case "merchant" -> new PaymentMerchantListPage(page).columnTexts("merchantName");
+            default -> {
+                new PaymentDictionaryListPage(page).waitOpened();
+                yield page.locator("td.mat-column-entryId, td.cdk-column-entryId").allTextContents();
+            }
+        });
+
+        Assertions.assertFalse(texts.isEmpty(), "Таблица " + list + " пустая, rows=" + timing.rows());
+    }
+}
@@ -0,0 +1,223 @@
+package pages.payment.dictionary;
+
+import baseUtils.api.ApiRequests;
+import baseUtils.browser.ToastLog;
+import baseUtils.perf.JankMonitor;
+import baseUtils.perf.JankReportExtension;
+import baseUtils.perf.PerfReports;
+import baseUtils.perf.PerfTimeline;
+import baseUtils.perf.PerfTimelineExtension;
+import com.microsoft.playwright.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import pages.mainPage.MenuBarPage;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
+
+/**
+ * Create Payment Dictionary Items на 10 / 100 / 500 строках: пакетное заполнение формы (и отдельно — его языковой шаг),
+ * отзывчивость заполненной формы (добавить строку, напечатать в последнюю) и латентность Save
+ * (клик -> success-тост). Отчёт — create-form-scale.txt.
+ *
+ * Запуск: -DformScale=true. Созданные записи удаляются через API в afterEach.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "formScale", matches = "true")
+@ExtendWith({PerfTimelineExtension.class, JankReportExtension.class})
+public class CreatePaymentDictionaryScaleTests {
+
+    private record ScaleResult(int rows, long fillMs, long languageMs, long addRowMs, long typeMs, long saveMs, long longTasksMs) {}
+
+    private Playwright playwright;
+    private Browser browser;
+
+    private BrowserContext context;
+    private Page page;
+
+    private MenuBarPage menuBarPage;
+    private PaymentDictionaryListPage paymentDictionaryListPage;
+    private CreatePaymentDictionaryPage createPaymentDictionaryPage;
+
+    private ApiRequests apiRequests;
+
+    private static final String BASE_URL =
+            System.getProperty("baseUrl",
+                    System.getenv().getOrDefault("BASE_URL", "https://admin-web-dev.itguru.am/home"));
+
+    private static final String API_BASE_URL =
+            System.getProperty("apiBaseUrl",
+                    System.getenv().getOrDefault("API_BASE_URL", "https://adminopenapi-dev.itguru.am"));
+
+    private static final String[] LANGUAGES = {"Armenian", "English", "Russian"};
+
+    private final List<ScaleResult> results = new ArrayList<>();
+
+    // для cleanup
+    private final Set<Long> createdEntryIds = new HashSet<>();
+
+    @BeforeAll
+    void beforeAll() {
+        playwright = Playwright.create();
+        browser = playwright.chromium().launch(
+                new BrowserType.LaunchOptions().setHeadless(true)
+        );
+    }
+
+    @AfterAll
+    void afterAll() {
+        if (!results.isEmpty()) {
+            StringBuilder sb = new StringBuilder(String.format("Create Payment Dictionary Items at scale%n"));
+            sb.append(String.format("%6s %10s %14s %12s %10s %10s %14s%n",
+                    "rows", "fill ms", "of it lang ms", "add row ms", "type ms", "save ms", "long tasks ms"));
+            for (ScaleResult r : results) {
+                sb.append(String.format("%6d %10d %14d %12d %10d %10d %14d%n",
+                        r.rows(), r.fillMs(), r.languageMs(), r.addRowMs(), r.typeMs(), r.saveMs(), r.longTasksMs()));
+            }
+            PerfReports.write("create-form-scale.txt", sb.toString());
+        }
+
+        if (browser != null) browser.close();
+        if (playwright != null) playwright.close();
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        context = browser.newContext(new Browser.NewContextOptions().setViewportSize(1920, 1080));
+        JankMonitor.install(context);
+        page = context.newPage();
+        page.navigate(BASE_URL);
+
+        menuBarPage = new MenuBarPage(page);
+        paymentDictionaryListPage = new PaymentDictionaryListPage(page);
+        createPaymentDictionaryPage = new CreatePaymentDictionaryPage(page);
+
+        apiRequests = new ApiRequests(context.request(), API_BASE_URL, buildApiHeaders());
+        createdEntryIds.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        try {
+            if (!createdEntryIds.isEmpty()) deleteCreated();
+        } finally {
+            if (context != null) context.close();
+        }
+    }
+
+    // ===== Хелперы =====
+
+    private void goToPaymentDictionaryList() {
+        menuBarPage.clickPaymentDictionary();
+        assertThat(page).hasURL(Pattern.compile(".*/payment/dictionary/list.*"));
+        paymentDictionaryListPage.waitOpened();
+    }
+
+    /**
+     * Удалить созданное: эндпоинт списка берём из запроса, который делает сам UI при открытии списка.
+     */
+    private void deleteCreated() {
+        String listPath = paymentDictionaryListPage.captureListRequestPath(this::goToPaymentDictionaryList);
+        int deleted = apiRequests.deleteDictionariesByEntryIds(listPath, createdEntryIds);
+
+        Assertions.assertEquals(createdEntryIds.size(), deleted,
+                "Cleanup: удалено " + deleted + " из " + createdEntryIds.size() + " созданных записей (список " + listPath + ")");
+    }
+
+    private List<DictionaryFormRow> rows(int count) {
+        long base = ThreadLocalRandom.current().nextLong(100_000_000L, 900_000_000L);
+        List<DictionaryFormRow> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long entryId = base + i;
+            createdEntryIds.add(entryId);
+            rows.add(new DictionaryFormRow("ErrorCode", LANGUAGES[i % LANGUAGES.length], String.valueOf(entryId), "scale test " + i));
+        }
+        return rows;
+    }
+
+    private static long elapsedMs(long startNs) {
+        return (System.nanoTime() - startNs) / 1_000_000;
+    }
+
+    private Map<String, String> buildApiHeaders() {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Content-Type", "application/json");
+        headers.put("Origin", "https://admin-web-dev.itguru.am");
+
+        try {
+            Object tokenObj = page.evaluate("() => " +
+                    "localStorage.getItem('access_token') || " +
+                    "localStorage.getItem('accessToken') || " +
+                    "localStorage.getItem('token') || " +
+                    "sessionStorage.getItem('access_token') || " +
+                    "sessionStorage.getItem('accessToken') || " +
+                    "sessionStorage.getItem('token')"
+            );
+
+            if (tokenObj != null) {
+                String token = tokenObj.toString().trim();
+                if (!token.isEmpty() && !token.equals("null")) {
+                    headers.put("Authorization", "Bearer " + token);
+                }
+            }
+        } catch (Exception ignored) {}
+
+        return headers;
+    }
+
+    // ===== Тесты =====
+
+    @ParameterizedTest(name = "rows={0}")
+    @ValueSource(ints = {10, 100, 500})
+    @DisplayName("Create Payment Dictionary Items: заполнение, отзывчивость и Save на N строках")
+    void createForm_atScale(int rowCount) {
+        goToPaymentDictionaryList();
+        paymentDictionaryListPage.clickCreate();
+        createPaymentDictionaryPage.waitOpened();
+
+        List<DictionaryFormRow> rows = rows(rowCount);
+
+        long start = System.nanoTime();
+        createPaymentDictionaryPage.fillRows(rows);
+        long fillMs = elapsedMs(start);
+        // языковой шаг внутри fillRows — отдельной колонкой
+        long languageMs = PerfTimeline.actions().stream()
+                .filter(a -> a.name().equals("dictionaryCreate.fillLanguages"))
+                .mapToLong(PerfTimeline.TimedAction::durationMs)
+                .sum();
+        Assertions.assertEquals(rowCount, createPaymentDictionaryPage.rowsCount(), "Строк в форме после заполнения");
+
+        // отзывчивость заполненной формы: добавить строку и убрать её, напечатать в последнюю
+        start = System.nanoTime();
+        createPaymentDictionaryPage.clickAddDictionaryRow();
+        long addRowMs = elapsedMs(start);
+        createPaymentDictionaryPage.removeRow(rowCount);
+
+        start = System.nanoTime();
+        createPaymentDictionaryPage.typeIntoValue(rowCount - 1, " typed");
+        long typeMs = elapsedMs(start);
+
+        long savedAt = ToastLog.mark(page);
+        createPaymentDictionaryPage.clickSave();
+        ToastLog.Toast toast = ToastLog.await(page, "The dictionary was created successfully.", savedAt, 60_000);
+        Assertions.assertNotNull(toast, "Нет success-тоста после Save на " + rowCount + " строках. Были: " + ToastLog.entries(page, savedAt));
+        long saveMs = toast.epochMs() - savedAt;
+
+        // observer отдаёт записи пачками — забрать буфер, иначе long tasks вокруг Save не попадут
+        JankMonitor.flush();
+        long longTasksMs = JankMonitor.entries().stream()
+                .filter(e -> "longtask".equals(e.type()))
+                .mapToLong(JankMonitor.JankEntry::durationMs)
+                .sum();
+
+        ScaleResult result = new ScaleResult(rowCount, fillMs, languageMs, addRowMs, typeMs, saveMs, longTasksMs);
+        results.add(result);
+        System.out.println(result);
+    }
+}
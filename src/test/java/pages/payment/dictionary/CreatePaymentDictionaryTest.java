@@ -1,8 +1,21 @@
 package pages.payment.dictionary;
 
 import baseUtils.api.ApiRequests;
+import baseUtils.browser.CpuThrottling;
+import baseUtils.browser.NetworkProfile;
+import baseUtils.browser.NetworkThrottling;
+import baseUtils.browser.ToastLog;
+import baseUtils.crawl.FlowProbe;
+import baseUtils.perf.ApiCallLedger;
+import baseUtils.perf.ApiCallLedgerExtension;
+import baseUtils.perf.JankMonitor;
+import baseUtils.perf.JankReportExtension;
+import baseUtils.perf.PerfBaselineExtension;
+import baseUtils.perf.PerfBudgetExtension;
+import baseUtils.perf.PerfTimelineExtension;
 import com.microsoft.playwright.*;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import pages.mainPage.MenuBarPage;
@@ -15,6 +28,13 @@ import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertTha
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith({
+        PerfTimelineExtension.class,
+        PerfBudgetExtension.class,
+        JankReportExtension.class,
+        PerfBaselineExtension.class,
+        ApiCallLedgerExtension.class
+})
 public class CreatePaymentDictionaryTest {
 
     private Playwright playwright;
@@ -61,6 +81,10 @@ public class CreatePaymentDictionaryTest {
     @BeforeEach
     void beforeEach() {
         context = browser.newContext(new Browser.NewContextOptions().setViewportSize(1920, 1080));
+        NetworkThrottling.apply(context, NetworkProfile.fromSystemProperty());
+        CpuThrottling.apply(context, CpuThrottling.rateFromSystemProperty());
+        JankMonitor.install(context);
+        ApiCallLedger.install(context);
         page = context.newPage();
         page.navigate(BASE_URL);
 
@@ -101,66 +125,27 @@ public class CreatePaymentDictionaryTest {
         paymentDictionaryListPage.waitOpened();
     }
 
-    private void assertFlowOpenedAfterClick(String urlBefore) {
-        Locator pageHeader = page.locator("app-page-title h3.page-title, h3.page-title").first();
-        Locator dialogHeader = page.locator(
-                "mat-dialog-container [mat-dialog-title], " +
-                        "mat-dialog-container .mat-mdc-dialog-title, " +
-                        "mat-dialog-container h1, mat-dialog-container h2, mat-dialog-container h3"
-        ).first();
-
-        long end = System.currentTimeMillis() + 5000;
-        String lastSeenHeader = null;
-
-        while (System.currentTimeMillis() < end) {
-            if (!page.url().equals(urlBefore)) return;
-
-            if (pageHeader.isVisible()) {
-                try {
-                    String text = pageHeader.innerText();
-                    if (text != null) {
-                        lastSeenHeader = text.trim();
-                        if (EXPECTED_FLOW_HEADERS.matcher(lastSeenHeader).matches()) return;
-                    }
-                } catch (Exception ignored) {}
-            }
-
-            if (dialogHeader.isVisible()) {
-                try {
-                    String text = dialogHeader.innerText();
-                    if (text != null) {
-                        lastSeenHeader = text.trim();
-                        if (EXPECTED_FLOW_HEADERS.matcher(lastSeenHeader).matches()) return;
-                    }
-                } catch (Exception ignored) {}
-            }
+    /**
+     * Клик должен открыть flow: смена URL или заголовок страницы/диалога из EXPECTED_FLOW_HEADERS.
+     * Сигналы ловит FlowProbe в браузере (без опроса), в лог — какой сигнал сработал и за сколько.
+     */
+    private void assertFlowOpenedAfterClick(Runnable click) {
+        FlowProbe.Result result = FlowProbe.open(page, EXPECTED_FLOW_HEADERS, false, click, 5_000);
+        System.out.println(result);
 
-            page.waitForTimeout(100);
-        }
-
-        Assertions.fail(
-                "После клика не открылся ожидаемый flow: URL не изменился и заголовок не совпал.\n" +
-                        "URL(before) = " + urlBefore + "\n" +
-                        "URL(after)  = " + page.url() + "\n" +
-                        "Last header = " + lastSeenHeader
-        );
+        Assertions.assertTrue(result.matched(),
+                "После клика не открылся ожидаемый flow: URL не изменился и заголовок не совпал с ожидаемыми.\n" + result);
     }
 
-    private void assertSuccessToast() {
-        Locator successMsg = page.locator(
-                        "mat-snack-bar-container, " +
-                                "simple-snack-bar, " +
-                                "[role='status'], " +
-                                "[aria-live='polite']"
-                )
-                .filter(new Locator.FilterOptions().setHasText("The dictionary was created successfully."))
-                .first();
-
-        successMsg.waitFor(new Locator.WaitForOptions()
-                .setState(com.microsoft.playwright.options.WaitForSelectorState.VISIBLE)
-                .setTimeout(10_000));
-
-        assertThat(successMsg).containsText("The dictionary was created successfully.");
+    /**
+     * Success-тост после since (ToastLog.mark перед Save) — из журнала тостов в браузере, без опроса.
+     */
+    private void assertSuccessToast(long since) {
+        String expected = "The dictionary was created successfully.";
+        ToastLog.Toast toast = ToastLog.await(page, expected, since, 10_000);
+
+        Assertions.assertNotNull(toast, "Тост '" + expected + "' не появился. Были: " + ToastLog.entries(page, since));
+        System.out.println("Toast '" + toast.text() + "' через " + (toast.epochMs() - since) + " ms после Save");
     }
 
     private String randomEntryId() {
@@ -211,7 +196,7 @@ public class CreatePaymentDictionaryTest {
     @Order(1)
     void createDictionary_fillFirstRow_smoke(String language) {
         goToPaymentDictionaryList();
-        paymentDictionaryListPage.clickCreate();
+        assertFlowOpenedAfterClick(paymentDictionaryListPage::clickCreate);
         createPaymentDictionaryPage.waitOpened();
 
         String entryId = randomEntryId();
@@ -227,9 +212,10 @@ public class CreatePaymentDictionaryTest {
                 value
         );
 
+        long savedAt = ToastLog.mark(page);
         createPaymentDictionaryPage.clickSave();
 
-        assertSuccessToast();
+        assertSuccessToast(savedAt);
 
         // Теперь получаем ID созданной записи из списка, чтобы удалить через API
         goToPaymentDictionaryList();
@@ -0,0 +1,213 @@
+package pages.payment.dictionary;
+
+import baseUtils.api.ApiRequests;
+import baseUtils.api.DictionaryItem;
+import baseUtils.browser.ToastLog;
+import baseUtils.perf.JankReportExtension;
+import baseUtils.perf.PerfReports;
+import baseUtils.perf.PerfTimelineExtension;
+import com.microsoft.playwright.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import pages.mainPage.MenuBarPage;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
+
+/**
+ * Массовое удаление: сидим N записей через API, выбираем их на списке одним проходом,
+ * "Delete selected" -> страница удаления -> Delete -> empty state.
+ * Меряем выбор, отрисовку страницы удаления (до N строк) и время до empty state. Отчёт — dictionary-bulk-delete.txt.
+ *
+ * Запуск: -DbulkDelete.items=200 (все N должны поместиться на максимальную страницу пагинатора).
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "bulkDelete.items", matches = "\\d+")
+@ExtendWith({PerfTimelineExtension.class, JankReportExtension.class})
+public class PaymentDictionaryBulkDeleteScaleTests {
+
+    private Playwright playwright;
+    private Browser browser;
+
+    private BrowserContext context;
+    private Page page;
+
+    private MenuBarPage menuBarPage;
+    private PaymentDictionaryListPage paymentDictionaryListPage;
+    private DeletePaymentDictionaryItemsPage deletePaymentDictionaryItemsPage;
+
+    private ApiRequests apiRequests;
+
+    private static final String BASE_URL =
+            System.getProperty("baseUrl",
+                    System.getenv().getOrDefault("BASE_URL", "https://admin-web-dev.itguru.am/home"));
+
+    private static final String API_BASE_URL =
+            System.getProperty("apiBaseUrl",
+                    System.getenv().getOrDefault("API_BASE_URL", "https://adminopenapi-dev.itguru.am"));
+
+    private static final int ITEMS = Integer.getInteger("bulkDelete.items", 0);
+    private static final int SEED_CHUNK = 100;
+
+    private static final int LANG_EN = 2;
+    private static final int BEHAVIOR_DEFAULT = 1;
+
+    private static final String TOAST_DELETED = "The dictionary was deleted successfully.";
+
+    private static final Pattern URL_LIST = Pattern.compile(".*/payment/dictionary/list.*");
+
+    // для cleanup
+    private final Set<Long> createdEntryIds = new HashSet<>();
+    private String listPath;
+
+    @BeforeAll
+    void beforeAll() {
+        playwright = Playwright.create();
+        browser = playwright.chromium().launch(
+                new BrowserType.LaunchOptions().setHeadless(true)
+        );
+    }
+
+    @AfterAll
+    void afterAll() {
+        if (browser != null) browser.close();
+        if (playwright != null) playwright.close();
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        context = browser.newContext(new Browser.NewContextOptions().setViewportSize(1920, 1080));
+        page = context.newPage();
+        page.navigate(BASE_URL);
+
+        menuBarPage = new MenuBarPage(page);
+        paymentDictionaryListPage = new PaymentDictionaryListPage(page);
+        deletePaymentDictionaryItemsPage = new DeletePaymentDictionaryItemsPage(page);
+
+        apiRequests = new ApiRequests(context.request(), API_BASE_URL, buildApiHeaders());
+        createdEntryIds.clear();
+        listPath = null;
+    }
+
+    @AfterEach
+    void afterEach() {
+        try {
+            if (!createdEntryIds.isEmpty()) deleteCreated();
+        } finally {
+            if (context != null) context.close();
+        }
+    }
+
+    // ===== Хелперы =====
+
+    private void goToPaymentDictionaryList() {
+        menuBarPage.clickPaymentDictionary();
+        assertThat(page).hasURL(URL_LIST);
+        paymentDictionaryListPage.waitOpened();
+    }
+
+    /**
+     * Недоудалённые записи остаются на стенде и ломают следующие прогоны — поэтому неполный cleanup валит тест.
+     */
+    private void deleteCreated() {
+        if (listPath == null) listPath = paymentDictionaryListPage.captureListRequestPath(this::goToPaymentDictionaryList);
+        int deleted = apiRequests.deleteDictionariesByEntryIds(listPath, createdEntryIds);
+
+        Assertions.assertEquals(createdEntryIds.size(), deleted,
+                "Cleanup: удалено " + deleted + " из " + createdEntryIds.size() + " засиженных записей (список " + listPath + ")");
+    }
+
+    private List<String> seed(int count) {
+        long base = ThreadLocalRandom.current().nextLong(100_000_000L, 900_000_000L);
+        List<String> entryIds = new ArrayList<>();
+        List<DictionaryItem> chunk = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long entryId = base + i;
+            chunk.add(DictionaryItem.of("ProviderType", entryId, LANG_EN, "bulk delete scale #" + i, BEHAVIOR_DEFAULT));
+            createdEntryIds.add(entryId);
+            entryIds.add(String.valueOf(entryId));
+
+            if (chunk.size() == SEED_CHUNK || i == count - 1) {
+                apiRequests.addDictionaryItems(chunk);
+                chunk = new ArrayList<>();
+            }
+        }
+        return entryIds;
+    }
+
+    private static long elapsedMs(long startNs) {
+        return (System.nanoTime() - startNs) / 1_000_000;
+    }
+
+    private Map<String, String> buildApiHeaders() {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Content-Type", "application/json");
+        headers.put("Origin", "https://admin-web-dev.itguru.am");
+
+        try {
+            Object tokenObj = page.evaluate("() => " +
+                    "localStorage.getItem('access_token') || " +
+                    "localStorage.getItem('accessToken') || " +
+                    "localStorage.getItem('token') || " +
+                    "sessionStorage.getItem('access_token') || " +
+                    "sessionStorage.getItem('accessToken') || " +
+                    "sessionStorage.getItem('token')"
+            );
+
+            if (tokenObj != null) {
+                String token = tokenObj.toString().trim();
+                if (!token.isEmpty() && !token.equals("null")) {
+                    headers.put("Authorization", "Bearer " + token);
+                }
+            }
+        } catch (Exception ignored) {}
+
+        return headers;
+    }
+
+    // ===== Тесты =====
+
+    @Test
+    @DisplayName("Payment Dictionary List -> bulk select N rows -> Delete selected -> empty state")
+    void bulkDelete_seededItems_atScale() {
+        List<String> entryIds = seed(ITEMS);
+
+        listPath = paymentDictionaryListPage.captureListRequestPath(this::goToPaymentDictionaryList);
+        String pageSize = paymentDictionaryListPage.setMaxPageSize();
+
+        long start = System.nanoTime();
+        List<String> missing = paymentDictionaryListPage.selectRowsByEntryIds(entryIds);
+        long selectMs = elapsedMs(start);
+
+        Assertions.assertEquals(List.of(), missing,
+                "Не все засиженные записи на странице (page size " + pageSize + "), не нашли " + missing.size());
+        Assertions.assertEquals(ITEMS, paymentDictionaryListPage.selectedRowsCount(), "Отмечено строк");
+
+        start = System.nanoTime();
+        paymentDictionaryListPage.clickDeleteSelected();
+        deletePaymentDictionaryItemsPage.waitOpened();
+        deletePaymentDictionaryItemsPage.waitRowsCount(ITEMS, 30_000);
+        long deletePageMs = elapsedMs(start);
+
+        long clickedAt = ToastLog.mark(page);
+        start = System.nanoTime();
+        deletePaymentDictionaryItemsPage.clickDelete();
+        deletePaymentDictionaryItemsPage.waitEmptyState();
+        long emptyStateMs = elapsedMs(start);
+        ToastLog.Toast toast = ToastLog.await(page, TOAST_DELETED, clickedAt, 1_000);
+
+        createdEntryIds.clear();
+
+        String report = String.format("Bulk delete of %d seeded dictionary items (page size %s)%n", ITEMS, pageSize)
+                + String.format("  select rows:        %6d ms%n", selectMs)
+                + String.format("  delete page render: %6d ms (click Delete selected -> %d rows)%n", deletePageMs, ITEMS)
+                + String.format("  delete -> empty:    %6d ms%n", emptyStateMs)
+                + String.format("  toast:              %s%n", toast != null ? toast.text() + " after " + (toast.epochMs() - clickedAt) + " ms" : "-");
+        PerfReports.write("dictionary-bulk-delete.txt", report);
+        System.out.println(report);
+    }
+}
@@ -0,0 +1,208 @@
+package pages.payment.dictionary;
+
+import baseUtils.api.ApiRequests;
+import baseUtils.browser.CpuThrottling;
+import baseUtils.browser.NetworkProfile;
+import baseUtils.browser.NetworkThrottling;
+import baseUtils.load.AdminSessionSimulator;
+import baseUtils.load.DictionaryFlows;
+import baseUtils.load.SimulationReport;
+import baseUtils.perf.PerfReports;
+import com.microsoft.playwright.*;
+import org.junit.jupiter.api.*;
+import pages.mainPage.MenuBarPage;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class PaymentDictionaryConcurrentEditTests {
+
+    private Playwright playwright;
+    private Browser browser;
+
+    private BrowserContext context;
+    private Page page;
+
+    private MenuBarPage menuBarPage;
+    private PaymentDictionaryListPage paymentDictionaryListPage;
+
+    private ApiRequests apiRequests;
+
+    private static final String BASE_URL =
+            System.getProperty("baseUrl",
+                    System.getenv().getOrDefault("BASE_URL", "https://admin-web-dev.itguru.am/home"));
+
+    private static final String API_BASE_URL =
+            System.getProperty("apiBaseUrl",
+                    System.getenv().getOrDefault("API_BASE_URL", "https://adminopenapi-dev.itguru.am"));
+
+    // Сколько операторов одновременно и сколько воркеров (браузеров) их обслуживают
+    private static final int SESSIONS = Integer.getInteger("sim.sessions", 4);
+    private static final int WORKERS = Integer.getInteger("sim.workers", SESSIONS);
+
+    // По умолчанию lost update только попадает в отчёт; -Dsim.failOnLostUpdate=true — валит тест
+    private static final boolean FAIL_ON_LOST_UPDATE = Boolean.getBoolean("sim.failOnLostUpdate");
+
+    private static final int LANG_EN = 2;
+    private static final int BEHAVIOR_DEFAULT = 1;
+
+    private final List<String> createdEntryIds = new ArrayList<>();
+
+    @BeforeAll
+    void beforeAll() {
+        playwright = Playwright.create();
+        browser = playwright.chromium().launch(
+                new BrowserType.LaunchOptions().setHeadless(true)
+        );
+    }
+
+    @AfterAll
+    void afterAll() {
+        if (browser != null) browser.close();
+        if (playwright != null) playwright.close();
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        context = browser.newContext(new Browser.NewContextOptions().setViewportSize(1920, 1080));
+        NetworkThrottling.apply(context, NetworkProfile.fromSystemProperty());
+        CpuThrottling.apply(context, CpuThrottling.rateFromSystemProperty());
+        page = context.newPage();
+        page.navigate(BASE_URL);
+
+        menuBarPage = new MenuBarPage(page);
+        paymentDictionaryListPage = new PaymentDictionaryListPage(page);
+
+        apiRequests = new ApiRequests(context.request(), API_BASE_URL, buildApiHeaders());
+        createdEntryIds.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        try {
+            if (!createdEntryIds.isEmpty()) {
+                goToPaymentDictionaryList();
+
+                List<Integer> idsToDelete = new ArrayList<>();
+                for (String entryId : createdEntryIds) {
+                    if (paymentDictionaryListPage.isEntryIdPresent(entryId)) {
+                        idsToDelete.add(paymentDictionaryListPage.getDictionaryIdByEntryId(entryId));
+                    }
+                }
+
+                if (!idsToDelete.isEmpty()) {
+                    apiRequests.deleteDictionaries(idsToDelete);
+                }
+            }
+        } catch (Exception ignored) {
+            // cleanup не должен валить прогон
+        } finally {
+            if (context != null) context.close();
+        }
+    }
+
+    // ===== helpers =====
+
+    private void goToPaymentDictionaryList() {
+        menuBarPage.clickPaymentDictionary();
+        assertThat(page).hasURL(Pattern.compile(".*/payment/dictionary/list.*"));
+        paymentDictionaryListPage.waitOpened();
+    }
+
+    private String seedEntry(String note) {
+        long entryId = ThreadLocalRandom.current().nextLong(10_000_000L, 99_999_999L);
+        apiRequests.addDictionaryItem("ProviderType", entryId, LANG_EN, "autotest concurrent " + note, BEHAVIOR_DEFAULT);
+
+        String entryIdStr = String.valueOf(entryId);
+        createdEntryIds.add(entryIdStr);
+        return entryIdStr;
+    }
+
+    private String readFinalValue(String entryId) {
+        goToPaymentDictionaryList();
+        return paymentDictionaryListPage.getValueByEntryId(entryId);
+    }
+
+    private Map<String, String> buildApiHeaders() {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Origin", "https://admin-web-dev.itguru.am");
+
+        try {
+            Object tokenObj = page.evaluate("() => " +
+                    "localStorage.getItem('access_token') || " +
+                    "localStorage.getItem('accessToken') || " +
+                    "localStorage.getItem('token') || " +
+                    "sessionStorage.getItem('access_token') || " +
+                    "sessionStorage.getItem('accessToken') || " +
+                    "sessionStorage.getItem('token')"
+            );
+
+            if (tokenObj != null) {
+                String token = tokenObj.toString().trim();
+                if (!token.isEmpty() && !token.equals("null")) {
+                    headers.put("Authorization", "Bearer " + token);
+                }
+            }
+        } catch (Exception ignored) {}
+
+        return headers;
+    }
+
+    // ===== Тесты =====
+
+    @Test
+    @Order(1)
+    @DisplayName("Payment Dictionary -> N операторов одновременно правят один entryId (latency + lost update)")
+    void concurrentEdit_sameEntry_shouldReportLatencyAndLostUpdates() {
+        String entryId = seedEntry("same entry");
+
+        AdminSessionSimulator simulator = new AdminSessionSimulator(BASE_URL, WORKERS);
+        SimulationReport report = simulator.run(
+                SESSIONS,
+                sessionId -> DictionaryFlows.editValue(entryId, id -> "session " + id + " value " + System.nanoTime()),
+                this::readFinalValue
+        );
+
+        PerfReports.write("concurrent-edit-same-entry.txt", report.toText());
+
+        Assertions.assertTrue(report.failedSessions().isEmpty(),
+                "Часть сессий упала:\n" + report.toText());
+
+        if (FAIL_ON_LOST_UPDATE) {
+            Assertions.assertTrue(report.lostUpdates().isEmpty(),
+                    "Обнаружены потерянные обновления:\n" + report.toText());
+        }
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Payment Dictionary -> N операторов одновременно правят свои записи (latency под нагрузкой)")
+    void concurrentEdit_ownEntries_shouldKeepEveryValue() {
+        List<String> entryIds = new ArrayList<>();
+        for (int i = 1; i <= SESSIONS; i++) {
+            entryIds.add(seedEntry("own entry #" + i));
+        }
+
+        AdminSessionSimulator simulator = new AdminSessionSimulator(BASE_URL, WORKERS);
+        SimulationReport report = simulator.run(
+                SESSIONS,
+                sessionId -> DictionaryFlows.editValue(entryIds.get(sessionId - 1), id -> "own value of session " + id),
+                this::readFinalValue
+        );
+
+        PerfReports.write("concurrent-edit-own-entries.txt", report.toText());
+
+        Assertions.assertTrue(report.failedSessions().isEmpty(),
+                "Часть сессий упала:\n" + report.toText());
+
+        for (int i = 1; i <= SESSIONS; i++) {
+            Assertions.assertEquals("own value of session " + i, readFinalValue(entryIds.get(i - 1)),
+                    "Значение сессии #" + i + " не сохранилось. EntryId=" + entryIds.get(i - 1));
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package pages.payment.dictionary;
+
+import baseUtils.api.ApiRequests;
+import baseUtils.api.ApiWorkerPool;
+import baseUtils.api.DictionaryItem;
+import baseUtils.api.DictionarySeeder;
+import baseUtils.perf.DatasetScalingReport;
+import baseUtils.perf.LoadTimingProbe;
+import baseUtils.perf.MemorySampler;
+import baseUtils.perf.PageLoadTiming;
+import baseUtils.perf.PerfReports;
+import baseUtils.perf.ScrollProbe;
+import com.microsoft.playwright.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import pages.mainPage.MenuBarPage;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
+
+/**
+ * Список Payment Dictionary на больших объёмах: засиживаем словарь до каждого размера из списка
+ * (DictionarySeeder: пачками через addDictionaries, параллельно), на каждом размере заново открываем список и меряем
+ * загрузку, максимальный размер страницы, прокрутку до конца, следующую страницу и пик JS-кучи.
+ * Отчёт — dictionary-large-dataset.txt: таблица по размерам и показатель роста (сублинейно или нет).
+ *
+ * Запуск: -DlargeDataset.sizes=10000,50000,100000 (размеры — сколько засижено к моменту замера, по возрастанию).
+ * -DlargeDataset.chunk — записей в одном запросе (по умолчанию 500), -DlargeDataset.workers — параллельных запросов (4).
+ * Воркеры сида получают storageState браузерного контекста — та же сессия, что у cleanup через context.request().
+ * Всё засиженное удаляется пачками в afterEach.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "largeDataset.sizes", matches = "[\\d,]+")
+public class PaymentDictionaryLargeDatasetBenchmarkTests {
+
+    private Playwright playwright;
+    private Browser browser;
+
+    private BrowserContext context;
+    private Page page;
+
+    private MenuBarPage menuBarPage;
+    private PaymentDictionaryListPage paymentDictionaryListPage;
+
+    private ApiRequests apiRequests;
+
+    private static final String BASE_URL =
+            System.getProperty("baseUrl",
+                    System.getenv().getOrDefault("BASE_URL", "https://admin-web-dev.itguru.am/home"));
+
+    private static final String API_BASE_URL =
+            System.getProperty("apiBaseUrl",
+                    System.getenv().getOrDefault("API_BASE_URL", "https://adminopenapi-dev.itguru.am"));
+
+    private static final int CHUNK = Integer.getInteger("largeDataset.chunk", 500);
+    private static final int WORKERS = Integer.getInteger("largeDataset.workers", 4);
+
+    // прокрутка одной страницы таблицы — потолок шагов, чтобы не крутить бесконечно при подгрузке
+    private static final int MAX_SCROLL_STEPS = 500;
+
+    private static final int LANG_EN = 2;
+    private static final int BEHAVIOR_DEFAULT = 1;
+
+    private static final String TABLE = "main table[role='table'], table[role='table']";
+
+    private static final Pattern URL_LIST = Pattern.compile(".*/payment/dictionary/list.*");
+
+    // для cleanup
+    private final Set<Long> createdEntryIds = Collections.synchronizedSet(new HashSet<>());
+
+    @BeforeAll
+    void beforeAll() {
+        playwright = Playwright.create();
+        browser = playwright.chromium().launch(
+                new BrowserType.LaunchOptions().setHeadless(true)
+        );
+    }
+
+    @AfterAll
+    void afterAll() {
+        if (browser != null) browser.close();
+        if (playwright != null) playwright.close();
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        context = browser.newContext(new Browser.NewContextOptions().setViewportSize(1920, 1080));
+        LoadTimingProbe.install(context);
+        page = context.newPage();
+        page.navigate(BASE_URL);
+
+        menuBarPage = new MenuBarPage(page);
+        paymentDictionaryListPage = new PaymentDictionaryListPage(page);
+
+        apiRequests = new ApiRequests(context.request(), API_BASE_URL, buildApiHeaders());
+        createdEntryIds.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        try {
+            if (!createdEntryIds.isEmpty()) deleteCreated();
+        } finally {
+            if (context != null) context.close();
+        }
+    }
+
+    // ===== Хелперы =====
+
+    private void goToPaymentDictionaryList() {
+        menuBarPage.clickPaymentDictionary();
+        assertThat(page).hasURL(URL_LIST);
+        paymentDictionaryListPage.waitOpened();
+    }
+
+    private void deleteCreated() {
+        String listPath = paymentDictionaryListPage.captureListRequestPath(this::goToPaymentDictionaryList);
+        int deleted = apiRequests.deleteDictionariesByEntryIds(listPath, createdEntryIds);
+
+        Assertions.assertEquals(createdEntryIds.size(), deleted,
+                "Cleanup: удалено " + deleted + " из " + createdEntryIds.size() + " засиженных записей (список " + listPath + ")");
+    }
+
+    private static List<Integer> sizes() {
+        return Arrays.stream(System.getProperty("largeDataset.sizes").split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(Integer::parseInt)
+                .sorted()
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Досидить записи [from, to) через DictionarySeeder (пачки по CHUNK, до WORKERS запросов одновременно).
+     */
+    private DictionarySeeder.SeedResult seed(DictionarySeeder seeder, long base, int from, int to) {
+        return seeder.seed(IntStream.range(from, to)
+                .mapToObj(i -> DictionaryItem.of("ProviderType", base + i, LANG_EN, "large dataset #" + i, BEHAVIOR_DEFAULT)));
+    }
+
+    private DatasetScalingReport.DatasetRun measure(int size) {
+        page.navigate(BASE_URL);
+        MemorySampler memory = new MemorySampler(page);
+        long peakHeap = 0;
+
+        menuBarPage.clickPaymentDictionary();
+        assertThat(page).hasURL(URL_LIST);
+        paymentDictionaryListPage.waitOpened();
+        PageLoadTiming load = paymentDictionaryListPage.loadTiming();
+        peakHeap = Math.max(peakHeap, memory.sample(0, false).jsHeapUsedBytes());
+
+        long start = System.nanoTime();
+        String pageSize = paymentDictionaryListPage.setMaxPageSize();
+        long pageSizeMs = (System.nanoTime() - start) / 1_000_000;
+        int rows = page.locator(TABLE).first().locator("tbody tr").count();
+        peakHeap = Math.max(peakHeap, memory.sample(1, false).jsHeapUsedBytes());
+
+        ScrollProbe.ScrollTiming scroll = ScrollProbe.scrollToEnd(page, TABLE, MAX_SCROLL_STEPS);
+        peakHeap = Math.max(peakHeap, memory.sample(2, false).jsHeapUsedBytes());
+
+        long nextPageMs = paymentDictionaryListPage.nextPage();
+        peakHeap = Math.max(peakHeap, memory.sample(3, false).jsHeapUsedBytes());
+
+        return new DatasetScalingReport.DatasetRun(size, load, pageSize, pageSizeMs, rows, scroll, nextPageMs, peakHeap);
+    }
+
+    private Map<String, String> buildApiHeaders() {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Content-Type", "application/json");
+        headers.put("Origin", "https://admin-web-dev.itguru.am");
+
+        try {
+            Object tokenObj = page.evaluate("() => " +
+                    "localStorage.getItem('access_token') || " +
+                    "localStorage.getItem('accessToken') || " +
+                    "localStorage.getItem('token') || " +
+                    "sessionStorage.getItem('access_token') || " +
+                    "sessionStorage.getItem('accessToken') || " +
+                    "sessionStorage.getItem('token')"
+            );
+
+            if (tokenObj != null) {
+                String token = tokenObj.toString().trim();
+                if (!token.isEmpty() && !token.equals("null")) {
+                    headers.put("Authorization", "Bearer " + token);
+                }
+            }
+        } catch (Exception ignored) {}
+
+        return headers;
+    }
+
+    // ===== Тесты =====
+
+    @Test
+    @DisplayName("Payment Dictionary List: загрузка, прокрутка, пагинация и куча на 10k..100k записей")
+    void list_atDatasetSizes() {
+        long base = ThreadLocalRandom.current().nextLong(100_000_000L, 900_000_000L);
+        List<DatasetScalingReport.DatasetRun> runs = new ArrayList<>();
+
+        try (ApiWorkerPool pool = new ApiWorkerPool(WORKERS, API_BASE_URL, buildApiHeaders(), context.storageState())) {
+            DictionarySeeder seeder = new DictionarySeeder(pool, CHUNK, null)
+                    .onChunkSeeded(chunk -> chunk.forEach(item -> createdEntryIds.add(item.entryId())));
+
+            int seeded = 0;
+            for (int size : sizes()) {
+                DictionarySeeder.SeedResult seed = seed(seeder, base, seeded, size);
+                System.out.println("Seeded up to " + size + ": " + seed);
+                seeded = size;
+
+                DatasetScalingReport.DatasetRun run = measure(size);
+                runs.add(run);
+                System.out.println(run);
+            }
+        } finally {
+            if (!runs.isEmpty()) {
+                String report = new DatasetScalingReport("Payment Dictionary list at dataset sizes", runs).toText();
+                PerfReports.write("dictionary-large-dataset.txt", report);
+                System.out.println(report);
+            }
+        }
+    }
+}
@@ -1,8 +1,20 @@
 package pages.payment.dictionary;
 
 import baseUtils.api.ApiRequests;
+import baseUtils.browser.CpuThrottling;
+import baseUtils.browser.NetworkProfile;
+import baseUtils.browser.NetworkThrottling;
+import baseUtils.browser.ToastLog;
+import baseUtils.perf.ApiCallLedger;
+import baseUtils.perf.ApiCallLedgerExtension;
+import baseUtils.perf.JankMonitor;
+import baseUtils.perf.JankReportExtension;
+import baseUtils.perf.PerfBaselineExtension;
+import baseUtils.perf.PerfBudgetExtension;
+import baseUtils.perf.PerfTimelineExtension;
 import com.microsoft.playwright.*;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -19,6 +31,13 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @TestMethodOrder(OrderAnnotation.class)
+@ExtendWith({
+        PerfTimelineExtension.class,
+        PerfBudgetExtension.class,
+        JankReportExtension.class,
+        PerfBaselineExtension.class,
+        ApiCallLedgerExtension.class
+})
 public class PaymentDictionaryListCoreTests {
 
     private Playwright playwright;
@@ -73,6 +92,10 @@ public class PaymentDictionaryListCoreTests {
     @BeforeEach
     void beforeEach(TestInfo testInfo) {
         context = browser.newContext(new Browser.NewContextOptions().setViewportSize(1920, 1080));
+        NetworkThrottling.apply(context, NetworkProfile.fromSystemProperty());
+        CpuThrottling.apply(context, CpuThrottling.rateFromSystemProperty());
+        JankMonitor.install(context);
+        ApiCallLedger.install(context);
         page = context.newPage();
         page.navigate(BASE_URL);
 
@@ -156,21 +179,15 @@ public class PaymentDictionaryListCoreTests {
         paymentDictionaryListPage.waitOpened();
     }
 
-    private void assertToast(String expectedText) {
-        Locator msg = page.locator(
-                        "mat-snack-bar-container, " +
-                                "simple-snack-bar, " +
-                                "[role='status'], " +
-                                "[aria-live='polite']"
-                )
-                .filter(new Locator.FilterOptions().setHasText(expectedText))
-                .first();
-
-        msg.waitFor(new Locator.WaitForOptions()
-                .setState(com.microsoft.playwright.options.WaitForSelectorState.VISIBLE)
-                .setTimeout(10_000));
-
-        assertThat(msg).containsText(expectedText);
+    /**
+     * Тост с текстом появился после since (ToastLog.mark перед кликом). Журнал ведётся в браузере,
+     * так что быстро исчезнувший тост не теряется, а ждём ровно до его появления.
+     */
+    private void assertToast(String expectedText, long since) {
+        ToastLog.Toast toast = ToastLog.await(page, expectedText, since, 10_000);
+
+        Assertions.assertNotNull(toast, "Тост '" + expectedText + "' не появился. Были: " + ToastLog.entries(page, since));
+        System.out.println("Toast '" + toast.text() + "' через " + (toast.epochMs() - since) + " ms после клика");
     }
 
     private long randomEntryIdLong() {
@@ -215,9 +232,10 @@ public class PaymentDictionaryListCoreTests {
         paymentDictionaryListPage.waitEntryIdVisible(entryId);
 
         paymentDictionaryListPage.clickTrashDeleteByEntryId(entryId);
+        long clickedAt = ToastLog.mark(page);
         paymentDictionaryListPage.confirmDeleteModal();
 
-        assertToast(TOAST_DELETED);
+        assertToast(TOAST_DELETED, clickedAt);
 
         // проверяем, что удалили именно созданный entryId
         paymentDictionaryListPage.waitEntryIdDisappears(entryId);
@@ -245,8 +263,9 @@ public class PaymentDictionaryListCoreTests {
         Assertions.assertEquals(1, deletePaymentDictionaryItemsPage.rowsCount(),
                 "Ожидали 1 строку на странице удаления");
 
+        long clickedAt = ToastLog.mark(page);
         deletePaymentDictionaryItemsPage.clickDelete();
-        assertToast(TOAST_DELETED);
+        assertToast(TOAST_DELETED, clickedAt);
         deletePaymentDictionaryItemsPage.waitEmptyState();
 
         goToPaymentDictionaryList();
@@ -277,8 +296,9 @@ public class PaymentDictionaryListCoreTests {
         Assertions.assertEquals(2, deletePaymentDictionaryItemsPage.rowsCount(),
                 "Ожидали 2 строки на странице удаления");
 
+        long clickedAt = ToastLog.mark(page);
         deletePaymentDictionaryItemsPage.clickDelete();
-        assertToast(TOAST_DELETED);
+        assertToast(TOAST_DELETED, clickedAt);
         deletePaymentDictionaryItemsPage.waitEmptyState();
 
         goToPaymentDictionaryList();
@@ -333,9 +353,9 @@ public class PaymentDictionaryListCoreTests {
 
         editPaymentDictionaryItemsPage.waitOpened();
 
-        editPaymentDictionaryItemsPage.setRowLanguage(0, newLanguage);
-        editPaymentDictionaryItemsPage.setRowEntryId(0, newEntryId);
-        editPaymentDictionaryItemsPage.setRowValue(0, newValue);
+        editPaymentDictionaryItemsPage.applyRows(List.of(
+                new DictionaryFormRow(null, newLanguage, newEntryId, newValue)
+        ));
 
         editPaymentDictionaryItemsPage.clickSaveAndWaitList(URL_LIST);
 
@@ -353,9 +373,10 @@ public class PaymentDictionaryListCoreTests {
         paymentDictionaryListPage.clickEditSelected();
         editPaymentDictionaryItemsPage.waitOpened();
 
-        Assertions.assertEquals(newEntryId, editPaymentDictionaryItemsPage.getRowEntryId(0), "EntryId не совпал после сохранения");
-        Assertions.assertTrue(editPaymentDictionaryItemsPage.getRowValue(0).contains(newValue), "Value не совпал после сохранения");
-        Assertions.assertTrue(editPaymentDictionaryItemsPage.getRowLanguage(0).contains(newLanguage), "Language не совпал после сохранения");
+        DictionaryFormRow saved = editPaymentDictionaryItemsPage.snapshot().get(0);
+        Assertions.assertEquals(newEntryId, saved.entryId(), "EntryId не совпал после сохранения");
+        Assertions.assertTrue(saved.value().contains(newValue), "Value не совпал после сохранения");
+        Assertions.assertTrue(saved.language().contains(newLanguage), "Language не совпал после сохранения");
 
         // важно для cleanup: теперь актуальный entryId = новый
         createdEntryIds.clear();
@@ -390,15 +411,10 @@ public class PaymentDictionaryListCoreTests {
         editPaymentDictionaryItemsPage.waitOpened();
         Assertions.assertEquals(2, editPaymentDictionaryItemsPage.rowsCount(), "Ожидали 2 строки на edit");
 
-        // row 0
-        editPaymentDictionaryItemsPage.setRowLanguage(0, newLanguage);
-        editPaymentDictionaryItemsPage.setRowEntryId(0, newEntryId1);
-        editPaymentDictionaryItemsPage.setRowValue(0, newValue1);
-
-        // row 1
-        editPaymentDictionaryItemsPage.setRowLanguage(1, newLanguage);
-        editPaymentDictionaryItemsPage.setRowEntryId(1, newEntryId2);
-        editPaymentDictionaryItemsPage.setRowValue(1, newValue2);
+        editPaymentDictionaryItemsPage.applyRows(List.of(
+                new DictionaryFormRow(null, newLanguage, newEntryId1, newValue1),
+                new DictionaryFormRow(null, newLanguage, newEntryId2, newValue2)
+        ));
 
         editPaymentDictionaryItemsPage.clickSaveAndWaitList(URL_LIST);
 
@@ -1,9 +1,26 @@
 package pages.payment.merchant;
 
+import baseUtils.browser.CpuThrottling;
+import baseUtils.browser.NetworkProfile;
+import baseUtils.browser.NetworkThrottling;
+import baseUtils.crawl.FlowProbe;
+import baseUtils.crawl.FlowVisit;
+import baseUtils.crawl.ParallelFlowVerifier;
+import baseUtils.crawl.RowActionsCrawler;
+import baseUtils.perf.ApiCallLedger;
+import baseUtils.perf.ApiCallLedgerExtension;
+import baseUtils.perf.JankMonitor;
+import baseUtils.perf.JankReportExtension;
+import baseUtils.perf.PerfBaselineExtension;
+import baseUtils.perf.PerfBudgetExtension;
+import baseUtils.perf.PerfReports;
+import baseUtils.perf.PerfTimelineExtension;
 import com.microsoft.playwright.*;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
 import pages.mainPage.MenuBarPage;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -11,6 +28,13 @@ import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertTha
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith({
+        PerfTimelineExtension.class,
+        PerfBudgetExtension.class,
+        JankReportExtension.class,
+        PerfBaselineExtension.class,
+        ApiCallLedgerExtension.class
+})
 public class PaymentMerchantListCoreTests {
 
     private Playwright playwright;
@@ -30,7 +54,7 @@ public class PaymentMerchantListCoreTests {
     private static final Pattern EXPECTED_FLOW_HEADERS = Pattern.compile(
             "^(?:"
                     + "Create Payment Merchant"
-                    + "Merchant details"
+                    + "|Merchant details"
                     + "|Add merchant certificate"
                     + "|Edit Payment Merchant"
                     + "|Edit Payment Merchant External Connections"
@@ -39,6 +63,20 @@ public class PaymentMerchantListCoreTests {
                     + ")$"
     );
 
+    // ===== Действия строки, которые должен найти краулер (пункты меню + aria-label иконок) =====
+    private static final List<String> EXPECTED_ROW_ACTIONS = List.of(
+            "Edit",
+            "Edit external connections",
+            "Edit service identifiers",
+            "Edit certificate",
+            "global.actions.details",
+            "payment.merchant.table.add_certificate"
+    );
+
+    // Параллельная проверка flow во вкладках: сколько строк и сколько вкладок одновременно
+    private static final int PARALLEL_ROWS = Integer.getInteger("parallelFlows.rows", 3);
+    private static final int PARALLEL_TABS = Integer.getInteger("parallelFlows.tabs", 4);
+
     @BeforeAll
     void beforeAll() {
         playwright = Playwright.create();
@@ -56,6 +94,10 @@ public class PaymentMerchantListCoreTests {
     @BeforeEach
     void beforeEach() {
         context = browser.newContext(new Browser.NewContextOptions().setViewportSize(1920, 1080));
+        NetworkThrottling.apply(context, NetworkProfile.fromSystemProperty());
+        CpuThrottling.apply(context, CpuThrottling.rateFromSystemProperty());
+        JankMonitor.install(context);
+        ApiCallLedger.install(context);
         page = context.newPage();
 
         page.navigate(BASE_URL);
@@ -77,65 +119,19 @@ public class PaymentMerchantListCoreTests {
 
         // Ждём, что роутинг реально привёл на Merchant List
         assertThat(page).hasURL(Pattern.compile(".*/payment/merchant/list.*"));
+        merchantListPage.waitOpened();
     }
 
     /**
-     * Универсальная проверка: после клика должно либо измениться URL,
-     * либо появиться заголовок (страницы/диалога) с одним из ожидаемых текстов.
+     * Клик должен открыть flow: смена URL или заголовок страницы/диалога из EXPECTED_FLOW_HEADERS.
+     * Сигналы ловит FlowProbe в браузере (без опроса), в лог — какой сигнал сработал и за сколько.
      */
-    private void assertFlowOpenedAfterClick(String urlBefore) {
-        Locator pageHeader = page.locator("app-page-title h3.page-title").first();
-
-        Locator dialogHeader = page.locator(
-                "mat-dialog-container [mat-dialog-title], " +
-                        "mat-dialog-container .mat-mdc-dialog-title, " +
-                        "mat-dialog-container h1, mat-dialog-container h2, mat-dialog-container h3"
-        ).first();
-
-        long end = System.currentTimeMillis() + 5000;
-        String lastSeenHeader = null;
-
-        while (System.currentTimeMillis() < end) {
-
-            // 1) URL изменился — значит открылся новый роут/экран
-            if (!page.url().equals(urlBefore)) return;
-
-            // 2) Проверяем заголовок страницы
-            if (pageHeader.isVisible()) {
-                try {
-                    String text = pageHeader.innerText();
-                    if (text != null) {
-                        lastSeenHeader = text.trim();
-                        if (EXPECTED_FLOW_HEADERS.matcher(lastSeenHeader).matches()) return;
-                    }
-                } catch (Exception ignored) {
-                    // DOM мог перерисоваться в момент чтения — пробуем дальше
-                }
-            }
-
-            // 3) Проверяем заголовок диалога
-            if (dialogHeader.isVisible()) {
-                try {
-                    String text = dialogHeader.innerText();
-                    if (text != null) {
-                        lastSeenHeader = text.trim();
-                        if (EXPECTED_FLOW_HEADERS.matcher(lastSeenHeader).matches()) return;
-                    }
-                } catch (Exception ignored) {
-                    // DOM мог перерисоваться — пробуем дальше
-                }
-            }
-
-            // Короткое ожидание и повтор
-            page.waitForTimeout(100);
-        }
+    private void assertFlowOpenedAfterClick(Runnable click) {
+        FlowProbe.Result result = FlowProbe.open(page, EXPECTED_FLOW_HEADERS, false, click, 5_000);
+        System.out.println(result);
 
-        Assertions.fail(
-                "После клика не открылся ожидаемый flow: URL не изменился и заголовок не совпал с ожидаемыми.\n" +
-                        "URL(before) = " + urlBefore + "\n" +
-                        "URL(after)  = " + page.url() + "\n" +
-                        "Last header = " + lastSeenHeader
-        );
+        Assertions.assertTrue(result.matched(),
+                "После клика не открылся ожидаемый flow: URL не изменился и заголовок не совпал с ожидаемыми.\n" + result);
     }
 
     // ===== Тесты =====
@@ -159,81 +155,53 @@ public class PaymentMerchantListCoreTests {
     void createButton_shouldOpenCreateFlow() {
         goToPaymentMerchantList();
 
-        String urlBefore = page.url();
-        merchantListPage.clickCreate();
-
-        assertFlowOpenedAfterClick(urlBefore);
+        assertFlowOpenedAfterClick(merchantListPage::clickCreate);
     }
 
     @Test
-    @DisplayName("Payment Merchant List -> проверка открытия страницы 'Edit Payment Merchant'")
+    @DisplayName("Payment Merchant List -> все действия строки (меню и иконки) открывают свои flow за одну загрузку списка")
     @Order(3)
-    void actionsMenu_edit_shouldOpenFlow_forFirstRow() {
-        goToPaymentMerchantList();
-
-        String urlBefore = page.url();
-        merchantListPage.clickEdit(0);
-
-        assertFlowOpenedAfterClick(urlBefore);
-    }
-
-    @Test
-    @DisplayName("Payment Merchant List -> проверка открытия 'Edit Payment Merchant External Connections'")
-    @Order(4)
-    void actionsMenu_editExternalConnections_shouldOpenFlow_forFirstRow() {
-        goToPaymentMerchantList();
-
-        String urlBefore = page.url();
-        merchantListPage.clickEditExternalConnections(0);
-
-        assertFlowOpenedAfterClick(urlBefore);
-    }
-
-    @Test
-    @DisplayName("Payment Merchant List -> проверка открытия 'Edit Payment Merchant Service Identifiers'")
-    @Order(5)
-    void actionsMenu_editServiceIdentifiers_shouldOpenFlow_forFirstRow() {
+    void rowActions_shouldOpenExpectedFlows_forFirstRow() {
         goToPaymentMerchantList();
 
-        String urlBefore = page.url();
-        merchantListPage.clickEditServiceIdentifiers(0);
-
-        assertFlowOpenedAfterClick(urlBefore);
-    }
-
-    @Test
-    @DisplayName("Payment Merchant List -> проверка открытия 'Edit Payment Merchant Certificate'")
-    @Order(6)
-    void actionsMenu_editCertificate_shouldOpenFlow_forFirstRow() {
-        goToPaymentMerchantList();
+        RowActionsCrawler crawler = new RowActionsCrawler(page, merchantListPage, EXPECTED_FLOW_HEADERS);
+        List<FlowVisit> visits = crawler.crawl(0);
 
-        String urlBefore = page.url();
-        merchantListPage.clickEditCertificate(0);
+        String report = RowActionsCrawler.toText("Payment Merchant List row actions", visits, crawler.documentLoads());
+        PerfReports.write("merchant-row-actions.txt", report);
 
-        assertFlowOpenedAfterClick(urlBefore);
+        List<String> crawled = visits.stream().map(FlowVisit::action).toList();
+        Assertions.assertTrue(crawled.containsAll(EXPECTED_ROW_ACTIONS),
+                "В строке нет ожидаемых действий. Ожидали " + EXPECTED_ROW_ACTIONS + ", нашли " + crawled);
+        Assertions.assertTrue(visits.stream().allMatch(FlowVisit::opened),
+                "Не все flow открылись с ожидаемым заголовком:\n" + report);
     }
 
     @Test
-    @DisplayName("Payment Merchant List -> проверка открытия 'Merchant details'")
-    @Order(7)
-    void detailsButton_shouldOpenFlow_forFirstRow() {
-        goToPaymentMerchantList();
-
-        String urlBefore = page.url();
-        merchantListPage.clickDetails(0);
-
-        assertFlowOpenedAfterClick(urlBefore);
-    }
+    @DisplayName("Payment Merchant List -> Details и Edit нескольких строк параллельно во вкладках одного context'а")
+    @Order(4)
+    void rowFlows_shouldOpen_inParallelTabs() {
+        List<ParallelFlowVerifier.FlowTask> tasks = new ArrayList<>();
+        for (int row = 0; row < PARALLEL_ROWS; row++) {
+            int rowIndex = row;
+            tasks.add(new ParallelFlowVerifier.FlowTask("Details row " + rowIndex, MenuBarPage.ROUTE_PAYMENT_MERCHANT, tab -> {
+                PaymentMerchantListPage list = new PaymentMerchantListPage(tab);
+                list.waitOpened();
+                return () -> list.clickDetails(rowIndex);
+            }));
+            tasks.add(new ParallelFlowVerifier.FlowTask("Edit row " + rowIndex, MenuBarPage.ROUTE_PAYMENT_MERCHANT, tab -> {
+                PaymentMerchantListPage list = new PaymentMerchantListPage(tab);
+                list.waitOpened();
+                return () -> list.clickEdit(rowIndex);
+            }));
+        }
 
-    @Test
-    @DisplayName("Payment Merchant List -> проверка открытия 'Add merchant certificate'")
-    @Order(8)
-    void addCertificateButton_shouldOpenFlow_forFirstRow() {
-        goToPaymentMerchantList();
+        List<FlowVisit> visits = new ParallelFlowVerifier(context, BASE_URL, EXPECTED_FLOW_HEADERS, PARALLEL_TABS).verify(tasks);
 
-        String urlBefore = page.url();
-        merchantListPage.clickAddCertificate(0);
+        String report = ParallelFlowVerifier.toText("Payment Merchant List parallel flows", visits);
+        PerfReports.write("merchant-parallel-flows.txt", report);
 
-        assertFlowOpenedAfterClick(urlBefore);
+        Assertions.assertTrue(visits.stream().allMatch(FlowVisit::opened),
+                "Не все flow открылись во вкладках:\n" + report);
     }
 }